@@ -0,0 +1,56 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tallyho.model.Game;
+import tallyho.model.player.ai.ShortSightedAI;
+import tallyho.model.player.ai.TrivialAI;
+
+/**
+ * Measures how long whole games take to play without a user interface
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GameBenchmark {
+
+  // Constants
+  private static final long SEED = 0x7A11;
+
+  /**
+   * Plays a game between two short-sighted AIs
+   *
+   * @return the finished game
+   */
+  @Benchmark
+  public Game shortSightedVsShortSighted() {
+    return new GameRunner(new ShortSightedAI(), new ShortSightedAI(), SEED)
+      .play();
+  }
+
+  /**
+   * Plays a game between a short-sighted AI and a trivial one
+   *
+   * @return the finished game
+   */
+  @Benchmark
+  public Game shortSightedVsTrivial() {
+    return new GameRunner(new ShortSightedAI(), new TrivialAI(), SEED).play();
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tallyho.model.turn.Turn;
+
+/**
+ * Measures the board operations that the game and the AIs use most, on
+ * positions from each stage of a round
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BoardBenchmark {
+
+  /**
+   * A position from the given stage of a round, with the given team to move
+   */
+  @State(Scope.Thread)
+  public static class Position {
+
+    // Parameters
+    @Param({"EARLY", "MID", "END"})
+    private String stage;
+
+    @Param({"PREDATORS", "HUMANS"})
+    private String team;
+
+    // Properties
+    private BoardImpl board;
+    private Team mover;
+
+    /**
+     * Creates the position
+     */
+    @Setup
+    public void setUp() {
+      board = Positions.createBoard(Positions.Stage.valueOf(stage));
+      mover = Team.valueOf(team);
+    }
+  }
+
+  /**
+   * A board on which to lay out the tiles
+   */
+  @State(Scope.Thread)
+  public static class NewBoard {
+
+    // Properties
+    private BoardImpl board;
+
+    /**
+     * Creates the board
+     */
+    @Setup
+    public void setUp() {
+      board = Positions.createBoard(Positions.Stage.EARLY);
+    }
+  }
+
+  /**
+   * Lays out a shuffled set of tiles
+   *
+   * @param newBoard the board to lay them out on
+   * @return the board, so the work isn't optimised away
+   */
+  @Benchmark
+  public Board setUpTiles(NewBoard newBoard) {
+    newBoard.board.setUpTiles();
+    return newBoard.board;
+  }
+
+  /**
+   * Lists every turn the team could make
+   *
+   * @param position the position to measure
+   * @return the turns
+   */
+  @Benchmark
+  public Collection<Turn> getPossibleTurns(Position position) {
+    return position.board.getPossibleTurns(position.mover);
+  }
+
+  /**
+   * Copies the board, as the old look-ahead AI does for every turn it tries
+   *
+   * @param position the position to measure
+   * @return the copy
+   * @throws CloneNotSupportedException never
+   */
+  @Benchmark
+  public Object cloneBoard(Position position)
+    throws CloneNotSupportedException
+  {
+    return position.board.clone();
+  }
+
+  /**
+   * Checks whether the team has any turn, as the game does after every turn
+   *
+   * @param position the position to measure
+   * @return see above
+   */
+  @Benchmark
+  public boolean isTurnPossible(Position position) {
+    return position.board.isTurnPossible(position.mover);
+  }
+
+  /**
+   * Checks whether both teams have tiles left, as the game does after every
+   * turn
+   *
+   * @param position the position to measure
+   * @return see above
+   */
+  @Benchmark
+  public boolean areBothTeamsRepresented(Position position) {
+    return position.board.areBothTeamsRepresented();
+  }
+}
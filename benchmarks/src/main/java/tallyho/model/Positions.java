@@ -0,0 +1,115 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import tallyho.model.player.Player;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.turn.Turn;
+
+/**
+ * Fixed board positions for the benchmarks, so that every run measures the
+ * same work. Each is reached by playing random turns from a seeded game.
+ */
+public final class Positions {
+
+  /**
+   * The stages of a round at which positions can be taken
+   */
+  public enum Stage {
+    /**
+     * Just set up, with every tile face-down
+     */
+    EARLY,
+
+    /**
+     * Part-way through, with some tiles face-up
+     */
+    MID,
+
+    /**
+     * In the end-game, with every tile face-up
+     */
+    END
+  }
+
+  // Constants
+  private static final long SEED = 0x7A11;
+  private static final int MID_GAME_TURNS = 24;
+  private static final int END_GAME_TURNS = 2;
+
+  /**
+   * Constructor - not for instantiation
+   */
+  private Positions() {
+    // Empty
+  }
+
+  /**
+   * Returns a new game, in the first round, at the given stage
+   *
+   * @param stage can't be <code>null</code>
+   * @return a new game whose active player has a turn
+   */
+  public static Game createGame(Stage stage) {
+    Player playerOne = new RealPlayer();
+    Player playerTwo = new RealPlayer();
+    Game game = new Game(playerOne, playerTwo, new Random(SEED));
+    Random random = new Random(SEED);
+    switch (stage) {
+      case EARLY:
+        break;
+      case MID:
+        for (int turn = 0; turn < MID_GAME_TURNS; turn++) {
+          haveRandomTurn(game, random);
+        }
+        break;
+      default:
+        while (!game.getBoard().areAllTilesFaceUp()) {
+          haveRandomTurn(game, random);
+        }
+        for (int turn = 0; turn < END_GAME_TURNS; turn++) {
+          haveRandomTurn(game, random);
+        }
+    }
+    return game;
+  }
+
+  /**
+   * Returns the board of a new game at the given stage
+   *
+   * @param stage can't be <code>null</code>
+   * @return see above
+   */
+  public static BoardImpl createBoard(Stage stage) {
+    return (BoardImpl) createGame(stage).getBoard();
+  }
+
+  /**
+   * Makes a random turn for the given game's active player
+   *
+   * @param game the game; must still be in its first round
+   * @param random the source of the choice
+   */
+  private static void haveRandomTurn(Game game, Random random) {
+    Player player = game.getActivePlayer();
+    List<Turn> turns =
+      new ArrayList<Turn>(game.getBoard().getPossibleTurns(player.getTeam()));
+    try {
+      game.getBoard().haveTurn(player, turns.get(random.nextInt(turns.size())));
+    }
+    catch (IllegalMoveException ex) {
+      // Unexpected since the turn was one of the possible ones
+      throw new RuntimeException(ex);
+    }
+    if (game.getActivePlayerNumber() == 0
+        || !Team.PREDATORS.equals(game.getPlayer(1).getTeam()))
+    {
+      throw new IllegalStateException("The fixture's round ended early");
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tallyho.model.Game;
+import tallyho.model.Positions;
+import tallyho.model.turn.Turn;
+
+/**
+ * Measures how long the AIs take to choose a turn, on positions from each
+ * stage of a round
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AIBenchmark {
+
+  // Constants
+  private static final int TABLE_MEGABYTES = 4;
+
+  /**
+   * A game at the given stage of its first round
+   */
+  @State(Scope.Thread)
+  public static class Position {
+
+    // Parameters
+    @Param({"EARLY", "MID", "END"})
+    private String stage;
+
+    // Properties
+    private Game game;
+
+    /**
+     * Creates the position
+     */
+    @Setup
+    public void setUp() {
+      game = Positions.createGame(Positions.Stage.valueOf(stage));
+    }
+  }
+
+  /**
+   * A look-ahead AI that looks the given number of turns ahead
+   */
+  @State(Scope.Thread)
+  public static class LookAhead {
+
+    // Parameters
+    @Param({"0", "1", "2"})
+    private int depth;
+
+    // Properties
+    private LookAheadAI ai;
+
+    /**
+     * Creates a new AI before each turn, so that none of its searches
+     * benefit from positions remembered from the previous one
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+      ai = new LookAheadAI(depth,
+          MinMaxTreeImpl.DEFAULT_CHANCE_OUTCOMES, TABLE_MEGABYTES);
+    }
+  }
+
+  /**
+   * Chooses the highest-scoring turn
+   *
+   * @param position the position to measure
+   * @return the turn
+   */
+  @Benchmark
+  public Turn shortSighted(Position position) {
+    ShortSightedAI ai = new ShortSightedAI();
+    ai.setTeam(position.game.getActivePlayer().getTeam());
+    return ai.getTurn(position.game.getBoard());
+  }
+
+  /**
+   * Chooses the best turn looking the given number of turns ahead
+   *
+   * @param position the position to measure
+   * @param lookAhead the AI to measure
+   * @return the turn
+   */
+  @Benchmark
+  public Turn lookAhead(Position position, LookAhead lookAhead) {
+    lookAhead.ai.setTeam(position.game.getActivePlayer().getTeam());
+    return lookAhead.ai.getTurn(position.game.getBoard());
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.util.Observable;
+import java.util.Observer;
+import java.util.Random;
+
+import tallyho.model.Game;
+import tallyho.model.IllegalMoveException;
+import tallyho.model.player.Player;
+import tallyho.model.player.ai.ComputerPlayer;
+import tallyho.model.turn.Turn;
+
+/**
+ * Plays a whole game between two computer players on the calling thread,
+ * without any user interface. This does for a batch of games what the
+ * AIController does for the Swing GUI.
+ */
+public class GameRunner implements Observer {
+
+  // Properties
+  private final Game game;
+  private final long seed;
+  private boolean over;
+
+  /**
+   * Constructor
+   *
+   * @param playerOne can't be <code>null</code>
+   * @param playerTwo can't be <code>null</code>
+   * @param seed the seed from which the game's random choices are made
+   */
+  public GameRunner(ComputerPlayer playerOne, ComputerPlayer playerTwo,
+      long seed)
+  {
+    // Check input
+    if (playerOne == null || playerTwo == null)
+      throw new IllegalArgumentException("Players can't be null");
+
+    this.game = new Game(playerOne, playerTwo, new Random(seed));
+    this.seed = seed;
+    game.addObserver(this);
+  }
+
+  /**
+   * Plays the game until it's over
+   *
+   * @return the finished game
+   */
+  public Game play() {
+    while (!over && !game.isOver()) {
+      Player activePlayer = game.getActivePlayer();
+      Turn turn = ((ComputerPlayer) activePlayer).getTurn(game.getBoard());
+      if (turn == null) {
+        // The game only makes a player active if they have a turn
+        throw new IllegalStateException(
+            activePlayer.getType() + " has no turn in game " + seed);
+      }
+      try {
+        game.getBoard().haveTurn(activePlayer, turn);
+      }
+      catch (IllegalMoveException ex) {
+        // AI submitted an invalid move
+        throw new RuntimeException(
+            "Illegal AI turn in game " + seed + ": " + turn, ex);
+      }
+    }
+    return game;
+  }
+
+  /**
+   * Returns the game being played, e.g. to observe it
+   *
+   * @return a non-<code>null</code> game
+   */
+  public Game getGame() {
+    return game;
+  }
+
+  /**
+   * Returns the seed from which this game's random choices are made
+   *
+   * @return see above
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+   */
+  public void update(Observable observable, Object propertyName) {
+    if (Game.GAME_OVER.equals(propertyName)) {
+      // The game can end without a round being over, if nobody can move
+      over = true;
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import tallyho.model.player.ai.ComputerPlayer;
+
+/**
+ * Runs a tournament between two kinds of computer player from the command
+ * line, without any user interface, and prints the results
+ */
+public class Main {
+
+  // Constants
+  private static final String AI_PACKAGE = "tallyho.model.player.ai.";
+  private static final String USAGE =
+    "Usage: Main playerOne playerTwo [games [seed [threads]]]\n"
+    + "  where the players are ComputerPlayer classes, e.g. ShortSightedAI";
+
+  /**
+   * Constructor - not for instantiation
+   */
+  private Main() {
+    // Empty
+  }
+
+  /**
+   * Runs the tournament
+   *
+   * @param args the two players' class names (in the AI package unless fully
+   *   qualified), then optionally the number of games, the seed, and the
+   *   number of threads (by default, one per processor)
+   * @throws Exception if the tournament can't be run
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2 || args.length > 5) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    Tournament tournament =
+      new Tournament(getPlayerClass(args[0]), getPlayerClass(args[1]));
+    if (args.length > 2)
+      tournament.setGames(Integer.parseInt(args[2]));
+    tournament.setSeed(args.length > 3
+        ? Long.parseLong(args[3]) : System.currentTimeMillis());
+    tournament.setThreads(args.length > 4
+        ? Integer.parseInt(args[4])
+        : Runtime.getRuntime().availableProcessors());
+    System.out.println(tournament.run());
+  }
+
+  /**
+   * Returns the computer player class of the given name
+   *
+   * @param name a class name, qualified unless it's in the AI package
+   * @return a non-<code>null</code> class
+   * @throws ClassNotFoundException if there's no such class
+   */
+  private static Class<? extends ComputerPlayer> getPlayerClass(String name)
+    throws ClassNotFoundException
+  {
+    String className = (name.indexOf('.') < 0) ? AI_PACKAGE + name : name;
+    return Class.forName(className).asSubclass(ComputerPlayer.class);
+  }
+}
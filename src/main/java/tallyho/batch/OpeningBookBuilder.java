@@ -0,0 +1,307 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Observable;
+import java.util.Observer;
+import java.util.Random;
+
+import tallyho.model.Board;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.AbstractPlayer;
+import tallyho.model.player.ai.ComputerPlayer;
+import tallyho.model.player.ai.OpeningBook;
+import tallyho.model.tile.Tile;
+import tallyho.model.turn.Flip;
+import tallyho.model.turn.Turn;
+
+/**
+ * Builds an {@link OpeningBook} by self-play: plays games between two
+ * computer players of the same kind, except that the opening flip of each
+ * round (made while every tile is face-down) is of a square picked at
+ * random, and records the net points the flipping team went on to score in
+ * that round.
+ * <p>
+ * The board looks the same from each of its corners and either axis, so each
+ * round counts towards all the squares that look the same as the one flipped
+ * (up to eight), which gives them the same value. Games are only played on
+ * the default size of board, that being the only size a game can have.
+ */
+public class OpeningBookBuilder {
+
+  // Constants
+  private static final String AI_PACKAGE = "tallyho.model.player.ai.";
+  private static final String USAGE =
+    "Usage: OpeningBookBuilder player [games [seed [file]]]\n"
+    + "  where the player is a ComputerPlayer class, e.g. ShortSightedAI";
+
+  // Properties
+  private final Class<? extends ComputerPlayer> playerClass;
+  private int games = 1000;
+  private long seed;
+  private int size;
+  // -- the total net points and number of rounds for each square, indexed
+  // -- by y * size + x
+  private long[] points;
+  private int[] rounds;
+
+  /**
+   * Constructor
+   *
+   * @param playerClass the kind of player making every turn but the opening
+   *   flips; must have a public no-argument constructor
+   */
+  public OpeningBookBuilder(Class<? extends ComputerPlayer> playerClass) {
+    // Check input
+    if (playerClass == null)
+      throw new IllegalArgumentException("Player class can't be null");
+
+    this.playerClass = playerClass;
+  }
+
+  /**
+   * Sets the number of games to play; each has two rounds
+   *
+   * @param games one or more
+   */
+  public void setGames(int games) {
+    if (games < 1)
+      throw new IllegalArgumentException("Must play at least one game");
+    this.games = games;
+  }
+
+  /**
+   * Sets the seed from which each game's seed is chosen
+   *
+   * @param seed any number
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Plays all the games and returns the book they give
+   *
+   * @return a book with values for the default size of board
+   */
+  public OpeningBook build() {
+    Random seeds = new Random(seed);
+    for (int gameNo = 0; gameNo < games; gameNo++) {
+      Explorer playerOne = new Explorer(createPlayer());
+      Explorer playerTwo = new Explorer(createPlayer());
+      GameRunner runner =
+        new GameRunner(playerOne, playerTwo, seeds.nextLong());
+      Game game = runner.getGame();
+      if (points == null) {
+        size = game.getBoard().getMaxIndex() + 1;
+        points = new long[size * size];
+        rounds = new int[size * size];
+      }
+      RoundRecorder recorder = new RoundRecorder(playerOne, playerTwo);
+      game.addObserver(recorder);
+      runner.play();
+      recorder.endRound();
+    }
+
+    int[] values = new int[size * size];
+    for (int square = 0; square < values.length; square++) {
+      values[square] = (rounds[square] == 0) ? OpeningBook.NO_VALUE
+        : (int) Math.round(100.0 * points[square] / rounds[square]);
+    }
+    OpeningBook book = new OpeningBook();
+    book.setValues(size, values, games * 2);   // two rounds a game
+    return book;
+  }
+
+  /**
+   * Records the net points scored after an opening flip of the given square,
+   * against it and all the squares that look the same
+   *
+   * @param square the index of the square flipped
+   * @param netPoints the net points the flipping team scored afterwards
+   */
+  private void record(int square, int netPoints) {
+    int maxIndex = size - 1;
+    int x = square % size;
+    int y = square / size;
+    int[][] likeSquares = {
+      {x, y}, {maxIndex - x, y}, {x, maxIndex - y},
+      {maxIndex - x, maxIndex - y}, {y, x}, {maxIndex - y, x},
+      {y, maxIndex - x}, {maxIndex - y, maxIndex - x}
+    };
+    boolean[] counted = new boolean[size * size];
+    for (int[] like : likeSquares) {
+      int likeSquare = like[1] * size + like[0];
+      if (!counted[likeSquare]) {
+        counted[likeSquare] = true;
+        points[likeSquare] += netPoints;
+        rounds[likeSquare]++;
+      }
+    }
+  }
+
+  /**
+   * Returns a new player of this builder's class
+   *
+   * @return a non-<code>null</code> player
+   */
+  private ComputerPlayer createPlayer() {
+    try {
+      return playerClass.newInstance();
+    }
+    catch (IllegalAccessException ex) {
+      // The class or its nullary constructor is not accessible
+      throw new IllegalArgumentException(
+          "Couldn't create a player of type " + playerClass, ex);
+    }
+    catch (InstantiationException ex) {
+      // e.g. the class isn't concrete or doesn't have a nullary constructor
+      throw new IllegalArgumentException(
+          "Couldn't create a player of type " + playerClass, ex);
+    }
+  }
+
+  /**
+   * A player that makes the opening flip of a round on a square picked at
+   * random (from the game's source), and otherwise plays as the given player
+   */
+  private static class Explorer extends AbstractPlayer
+    implements ComputerPlayer
+  {
+    // Properties
+    private final ComputerPlayer player;
+    // -- the square of this round's opening flip, if this player made it
+    private int openingSquare = -1;
+    private int roundStartScore;
+
+    /**
+     * Constructor
+     *
+     * @param player makes this player's other turns
+     */
+    Explorer(ComputerPlayer player) {
+      this.player = player;
+    }
+
+    /* (non-Javadoc)
+     * @see tallyho.model.player.ai.ComputerPlayer#getTurn(tallyho.model.Board)
+     */
+    public Turn getTurn(Board board) {
+      if (!OpeningBook.isOpening(board))
+        return player.getTurn(board);
+      int size = board.getMaxIndex() + 1;
+      int square;
+      Tile tile;
+      do {
+        square = board.getRandom().nextInt(size * size);
+        tile = board.getTile(square % size, square / size);
+      } while (tile == null);
+      openingSquare = square;
+      return new Flip(getTeam(), square % size, square / size, tile);
+    }
+
+    /* (non-Javadoc)
+     * @see tallyho.model.player.Player#setTeam(tallyho.model.Team)
+     */
+    public void setTeam(Team team) {
+      super.setTeam(team);
+      player.setTeam(team);
+    }
+
+    /* (non-Javadoc)
+     * @see tallyho.model.player.Player#getType()
+     */
+    public String getType() {
+      return player.getType();
+    }
+  }
+
+  /**
+   * Records the result of each round of a game once it's over
+   */
+  private class RoundRecorder implements Observer {
+
+    // Properties
+    private final Explorer[] players;
+
+    /**
+     * Constructor
+     *
+     * @param playerOne one of the game's players
+     * @param playerTwo the other
+     */
+    RoundRecorder(Explorer playerOne, Explorer playerTwo) {
+      players = new Explorer[] {playerOne, playerTwo};
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+     */
+    public void update(Observable observable, Object propertyName) {
+      if (Game.NEW_ROUND.equals(propertyName))
+        endRound();
+    }
+
+    /**
+     * Records the result of the round just over, if it had an opening flip
+     */
+    void endRound() {
+      for (int i = 0; i < players.length; i++) {
+        Explorer flipper = players[i];
+        Explorer other = players[1 - i];
+        if (flipper.openingSquare >= 0) {
+          record(flipper.openingSquare,
+              (flipper.getScore() - flipper.roundStartScore)
+              - (other.getScore() - other.roundStartScore));
+        }
+      }
+      for (Explorer player : players) {
+        player.openingSquare = -1;
+        player.roundStartScore = player.getScore();
+      }
+    }
+  }
+
+  /**
+   * Builds a book and saves it to the given file, or prints it
+   *
+   * @param args the player's class name (in the AI package unless fully
+   *   qualified), then optionally the number of games (default 1000), the
+   *   seed (default 0), and the file
+   * @throws Exception if the book can't be built or saved
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1 || args.length > 4) {
+      System.err.println(USAGE);
+      System.exit(1);
+    }
+    String className =
+      (args[0].indexOf('.') < 0) ? AI_PACKAGE + args[0] : args[0];
+    OpeningBookBuilder builder = new OpeningBookBuilder(
+        Class.forName(className).asSubclass(ComputerPlayer.class));
+    if (args.length > 1)
+      builder.setGames(Integer.parseInt(args[1]));
+    if (args.length > 2)
+      builder.setSeed(Long.parseLong(args[2]));
+    OpeningBook book = builder.build();
+    if (args.length > 3) {
+      Writer writer =
+        new OutputStreamWriter(new FileOutputStream(args[3]), "UTF-8");
+      try {
+        book.write(writer);
+      }
+      finally {
+        writer.close();
+      }
+    }
+    else {
+      book.write(new PrintWriter(System.out));
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import tallyho.model.Board;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.UndoRecord;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
+import tallyho.model.turn.PackedTurn;
+import tallyho.model.turn.TurnList;
+
+/**
+ * Counts every sequence of turns up to a given length from a position
+ * ("perft"), as a check on the board's turn generation and a measure of its
+ * speed. Two board implementations that generate the same turns give the same
+ * counts.
+ * <p>
+ * Turns are generated and made in the encoded form of {@link PackedTurn},
+ * and taken back, as in the AI's search. A team with no turn passes, which
+ * counts as a turn. The end of the round isn't checked for, so sequences
+ * carry on into what would be the next round.
+ * <p>
+ * A flip can either reveal the tile actually there, or be treated as a chance
+ * node: one sequence for each kind of tile still face-down (a Hunter's
+ * direction being part of its kind), as if the flip revealed that.
+ */
+public class Perft {
+
+  // Properties
+  private final Board board;
+  private final Team firstMover;
+  private final boolean chanceFlips;
+  private long[] counts;
+  private TurnList[] turnLists;
+
+  /**
+   * Constructor
+   *
+   * @param board the position to count from; is left as it was found
+   * @param firstMover the team to move first
+   * @param chanceFlips whether each flip can reveal any kind of face-down
+   *   tile, rather than the one actually there
+   */
+  public Perft(Board board, Team firstMover, boolean chanceFlips) {
+    // Check input
+    if (board == null)
+      throw new IllegalArgumentException("Board can't be null");
+    if (!Team.HUMANS.equals(firstMover) && !Team.PREDATORS.equals(firstMover))
+      throw new IllegalArgumentException("Invalid team: " + firstMover);
+
+    this.board = board;
+    this.firstMover = firstMover;
+    this.chanceFlips = chanceFlips;
+  }
+
+  /**
+   * Counts the sequences of turns of each length up to the given depth
+   *
+   * @param depth the longest sequences to count; at least one
+   * @return the number of sequences of each length, the first element being
+   *   for sequences of one turn
+   */
+  public long[] count(int depth) {
+    if (depth < 1)
+      throw new IllegalArgumentException("Depth must be at least one");
+    counts = new long[depth];
+    turnLists = new TurnList[depth];
+    for (int i = 0; i < depth; i++) {
+      turnLists[i] = new TurnList();
+    }
+    count(firstMover, 0);
+    return counts;
+  }
+
+  /**
+   * Counts the sequences of turns from the current position
+   *
+   * @param mover the team about to move
+   * @param ply the number of turns made so far
+   */
+  private void count(Team mover, int ply) {
+    if (ply == counts.length)
+      return;
+    TurnList turns = turnLists[ply];
+    turns.clear();
+    board.addPossibleTurns(mover, turns);
+    if (turns.isEmpty()) {
+      countTurn(PackedTurn.pass(mover), ply);
+      return;
+    }
+    List<TileKind> kinds = null;
+    for (int i = 0; i < turns.size(); i++) {
+      int turn = turns.get(i);
+      if (chanceFlips && PackedTurn.isFlip(turn)) {
+        if (kinds == null)
+          kinds = getFaceDownKinds();
+        for (TileKind kind : kinds) {
+          countTurn(PackedTurn.flip(mover, PackedTurn.getX(turn),
+              PackedTurn.getY(turn), kind), ply);
+        }
+      }
+      else {
+        countTurn(turn, ply);
+      }
+    }
+  }
+
+  /**
+   * Counts the given turn and the sequences that follow it
+   *
+   * @param turn the turn to make, encoded as per PackedTurn
+   * @param ply the number of turns made before it
+   */
+  private void countTurn(int turn, int ply) {
+    counts[ply]++;
+    if (ply + 1 < counts.length) {
+      UndoRecord record = board.apply(turn);
+      count(getOpponent(PackedTurn.getTeam(turn)), ply + 1);
+      board.undo(record);
+    }
+  }
+
+  /**
+   * Returns the kinds of the face-down tiles on the board
+   *
+   * @return a non-empty List, in the order they're first found
+   */
+  private List<TileKind> getFaceDownKinds() {
+    List<TileKind> kinds = new ArrayList<TileKind>();
+    for (int y = 0; y <= board.getMaxIndex(); y++) {
+      for (int x = 0; x <= board.getMaxIndex(); x++) {
+        Tile tile = board.getTile(x, y);
+        if (tile != null && !tile.isFaceUp()
+            && !kinds.contains(tile.getKind()))
+        {
+          kinds.add(tile.getKind());
+        }
+      }
+    }
+    return kinds;
+  }
+
+  /**
+   * Returns the opponent of the given team
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return the other one
+   */
+  private static Team getOpponent(Team team) {
+    if (Team.HUMANS.equals(team))
+      return Team.PREDATORS;
+    return Team.HUMANS;
+  }
+
+  /**
+   * Counts the sequences of turns from the start of a seeded game, printing
+   * the count for each length and the overall speed
+   *
+   * @param args the depth, then optionally the game's seed (default 1) and
+   *   "chance" to treat flips as chance nodes
+   */
+  public static void main(String[] args) {
+    if (args.length < 1 || args.length > 3) {
+      System.err.println("Usage: Perft depth [seed [chance]]");
+      System.exit(1);
+    }
+    int depth = Integer.parseInt(args[0]);
+    long seed = (args.length > 1) ? Long.parseLong(args[1]) : 1;
+    boolean chanceFlips = args.length > 2 && "chance".equals(args[2]);
+
+    Game game =
+      new Game(new RealPlayer(), new RealPlayer(), new Random(seed));
+    Perft perft = new Perft(game.getBoard(),
+        game.getActivePlayer().getTeam(), chanceFlips);
+    long start = System.nanoTime();
+    long[] counts = perft.count(depth);
+    long elapsed = System.nanoTime() - start;
+
+    long total = 0;
+    for (int i = 0; i < counts.length; i++) {
+      System.out.println("Depth " + (i + 1) + ": " + counts[i]);
+      total += counts[i];
+    }
+    System.out.println("Turns counted: " + total + " in " + elapsed / 1000000
+        + "ms (" + Math.round(total * 1e9 / Math.max(elapsed, 1))
+        + " per second)");
+  }
+}
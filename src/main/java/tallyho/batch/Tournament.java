@@ -0,0 +1,197 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import tallyho.model.Game;
+import tallyho.model.player.ai.ComputerPlayer;
+
+/**
+ * Plays a number of games between two kinds of computer player, spread across
+ * a pool of threads, and reports the results. Each game gets its own seed
+ * from the tournament's seed, and its own new players, so that games don't
+ * depend on each other or on the order they're played in; a tournament
+ * played again from the same seed has the same results (as long as the
+ * players only choose at random using the game's source). The players swap
+ * seats each game, so that neither always moves first.
+ */
+public class Tournament {
+
+  // Properties
+  private final Class<? extends ComputerPlayer> playerOneClass;
+  private final Class<? extends ComputerPlayer> playerTwoClass;
+  private int games = 100;
+  private long seed;
+  private int threads = 1;
+
+  /**
+   * Constructor
+   *
+   * @param playerOneClass the kind of the first player; must have a public
+   *   no-argument constructor
+   * @param playerTwoClass the kind of the second player; must have a public
+   *   no-argument constructor
+   */
+  public Tournament(Class<? extends ComputerPlayer> playerOneClass,
+      Class<? extends ComputerPlayer> playerTwoClass)
+  {
+    // Check input
+    if (playerOneClass == null || playerTwoClass == null)
+      throw new IllegalArgumentException("Player classes can't be null");
+
+    this.playerOneClass = playerOneClass;
+    this.playerTwoClass = playerTwoClass;
+  }
+
+  /**
+   * Sets the number of games to play
+   *
+   * @param games one or more
+   */
+  public void setGames(int games) {
+    if (games < 1)
+      throw new IllegalArgumentException("Must play at least one game");
+    this.games = games;
+  }
+
+  /**
+   * Sets the seed from which each game's seed is chosen
+   *
+   * @param seed any number
+   */
+  public void setSeed(long seed) {
+    this.seed = seed;
+  }
+
+  /**
+   * Sets the number of games to play at once
+   *
+   * @param threads one or more
+   */
+  public void setThreads(int threads) {
+    if (threads < 1)
+      throw new IllegalArgumentException("Must use at least one thread");
+    this.threads = threads;
+  }
+
+  /**
+   * Plays all the games and returns the results
+   *
+   * @return a non-<code>null</code> result
+   * @throws InterruptedException if interrupted while waiting for the games
+   */
+  public TournamentResult run() throws InterruptedException {
+    // The first game's players give the result their types
+    ComputerPlayer playerOne = createPlayer(playerOneClass);
+    ComputerPlayer playerTwo = createPlayer(playerTwoClass);
+    TournamentResult result =
+      new TournamentResult(playerOne.getType(), playerTwo.getType(), seed);
+    Random seeds = new Random(seed);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    long start = System.nanoTime();
+    try {
+      List<Future<int[]>> scores = new ArrayList<Future<int[]>>();
+      for (int gameNo = 0; gameNo < games; gameNo++) {
+        scores.add(executor.submit(new GameTask(
+            gameNo % 2 == 1, seeds.nextLong(), playerOne, playerTwo)));
+        // Each later game creates its own
+        playerOne = null;
+        playerTwo = null;
+      }
+      for (Future<int[]> gameScores : scores) {
+        int[] score = gameScores.get();
+        result.addGame(score[0], score[1]);
+      }
+    }
+    catch (ExecutionException ex) {
+      throw new RuntimeException(ex.getCause());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    result.setElapsedNanos(System.nanoTime() - start);
+    return result;
+  }
+
+  /**
+   * Returns a new player of the given class
+   *
+   * @param playerClass must have a public no-argument constructor
+   * @return a non-<code>null</code> player
+   */
+  private static ComputerPlayer createPlayer(
+      Class<? extends ComputerPlayer> playerClass)
+  {
+    try {
+      return playerClass.newInstance();
+    }
+    catch (IllegalAccessException ex) {
+      // The class or its nullary constructor is not accessible
+      throw new IllegalArgumentException(
+          "Couldn't create a player of type " + playerClass, ex);
+    }
+    catch (InstantiationException ex) {
+      // e.g. the class isn't concrete or doesn't have a nullary constructor
+      throw new IllegalArgumentException(
+          "Couldn't create a player of type " + playerClass, ex);
+    }
+  }
+
+  /**
+   * Plays one game of the tournament
+   */
+  private class GameTask implements Callable<int[]> {
+
+    // Properties
+    private final boolean swapped;
+    private final long gameSeed;
+    private final ComputerPlayer playerOne;
+    private final ComputerPlayer playerTwo;
+
+    /**
+     * Constructor
+     *
+     * @param swapped whether the tournament's second player goes first
+     * @param gameSeed the seed from which the game's random choices are made
+     * @param playerOne the tournament's first player for this game, or
+     *   <code>null</code> to create one when it's played
+     * @param playerTwo likewise for the second player
+     */
+    GameTask(boolean swapped, long gameSeed, ComputerPlayer playerOne,
+        ComputerPlayer playerTwo)
+    {
+      this.swapped = swapped;
+      this.gameSeed = gameSeed;
+      this.playerOne = playerOne;
+      this.playerTwo = playerTwo;
+    }
+
+    /**
+     * Plays the game
+     *
+     * @return the scores of the tournament's first and second players
+     */
+    public int[] call() {
+      ComputerPlayer one =
+        (playerOne == null) ? createPlayer(playerOneClass) : playerOne;
+      ComputerPlayer two =
+        (playerTwo == null) ? createPlayer(playerTwoClass) : playerTwo;
+      GameRunner runner = swapped
+        ? new GameRunner(two, one, gameSeed)
+        : new GameRunner(one, two, gameSeed);
+      Game game = runner.play();
+      int first = game.getPlayer(1).getScore();
+      int second = game.getPlayer(2).getScore();
+      return swapped ? new int[] {second, first} : new int[] {first, second};
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+/**
+ * The results of a tournament between two kinds of computer player: how many
+ * games each won, how many points each scored, and how quickly the games were
+ * played. Players are numbered as in the tournament, whichever of them went
+ * first in each game.
+ */
+public class TournamentResult {
+
+  // Constants
+  private static final int PLAYERS = 2;
+
+  // Properties
+  private final String[] playerTypes;
+  private final int[] wins = new int[PLAYERS];
+  private final long[] scores = new long[PLAYERS];
+  private final long seed;
+  private int draws;
+  private int games;
+  private long elapsedNanos;
+
+  /**
+   * Constructor
+   *
+   * @param playerOneType the type of the first player
+   * @param playerTwoType the type of the second player
+   * @param seed the seed from which the tournament's games were played
+   */
+  TournamentResult(String playerOneType, String playerTwoType, long seed) {
+    this.playerTypes = new String[] {playerOneType, playerTwoType};
+    this.seed = seed;
+  }
+
+  /**
+   * Records the result of one game
+   *
+   * @param playerOneScore the first player's score
+   * @param playerTwoScore the second player's score
+   */
+  void addGame(int playerOneScore, int playerTwoScore) {
+    games++;
+    scores[0] += playerOneScore;
+    scores[1] += playerTwoScore;
+    if (playerOneScore > playerTwoScore)
+      wins[0]++;
+    else if (playerTwoScore > playerOneScore)
+      wins[1]++;
+    else
+      draws++;
+  }
+
+  /**
+   * Records how long the games took to play
+   *
+   * @param elapsedNanos the total time, in nanoseconds
+   */
+  void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the number of games played
+   *
+   * @return zero or more
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of games won by the given player
+   *
+   * @param playerNo one-indexed
+   * @return zero or more
+   */
+  public int getWins(int playerNo) {
+    return wins[getIndex(playerNo)];
+  }
+
+  /**
+   * Returns the number of drawn games
+   *
+   * @return zero or more
+   */
+  public int getDraws() {
+    return draws;
+  }
+
+  /**
+   * Returns the proportion of games won by the given player
+   *
+   * @param playerNo one-indexed
+   * @return from zero to one; zero if no games were played
+   */
+  public double getWinRate(int playerNo) {
+    if (games == 0)
+      return 0;
+    return (double) getWins(playerNo) / games;
+  }
+
+  /**
+   * Returns the total points scored by the given player over all the games
+   *
+   * @param playerNo one-indexed
+   * @return zero or more
+   */
+  public long getTotalScore(int playerNo) {
+    return scores[getIndex(playerNo)];
+  }
+
+  /**
+   * Returns the number of games played per second of elapsed time
+   *
+   * @return zero or more
+   */
+  public double getGamesPerSecond() {
+    if (elapsedNanos == 0)
+      return 0;
+    return games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns the seed from which the tournament's games were played
+   *
+   * @return see above
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the array index of the given player
+   *
+   * @param playerNo one-indexed
+   * @return zero-indexed
+   */
+  private static int getIndex(int playerNo) {
+    if (playerNo < 1 || playerNo > PLAYERS)
+      throw new IllegalArgumentException("Invalid player number: " + playerNo);
+    return playerNo - 1;
+  }
+
+  /**
+   * Returns a report of these results, one line per statistic
+   *
+   * @see java.lang.Object#toString()
+   */
+  public String toString() {
+    StringBuffer report = new StringBuffer();
+    report.append("Games: ").append(games);
+    report.append(" (seed ").append(seed).append(")\n");
+    for (int playerNo = 1; playerNo <= PLAYERS; playerNo++) {
+      report.append(playerTypes[playerNo - 1]).append(": ");
+      report.append(getWins(playerNo)).append(" wins (");
+      report.append(Math.round(getWinRate(playerNo) * 1000) / 10.0);
+      report.append("%), ").append(getTotalScore(playerNo));
+      report.append(" points\n");
+    }
+    report.append("Draws: ").append(draws).append('\n');
+    report.append("Games per second: ");
+    report.append(Math.round(getGamesPerSecond() * 100) / 100.0);
+    return report.toString();
+  }
+}
@@ -0,0 +1,488 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import tallyho.model.tile.Directional;
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
+import tallyho.model.turn.Move;
+import tallyho.model.turn.PackedTurn;
+import tallyho.model.turn.TurnList;
+
+/**
+ * A board that also describes its contents as bitsets (one bit per square),
+ * so that the queries made by the AIs - move generation and capture tests -
+ * are mask operations rather than object dereferences and
+ * <code>instanceof</code> checks.
+ * <p>
+ * The Tile objects themselves are still held by the superclass, because the
+ * Board interface hands them out (and flips them) by identity. Every change
+ * to the grid goes through {@link #setTile(int, int, Tile)} and
+ * {@link #turnFaceUp(int, int, Tile)}, which keep the masks in step.
+ * <p>
+ * Square <code>(x, y)</code> is bit <code>y * size + x</code>.
+ */
+public class BitBoard extends BoardImpl {
+
+  // Constants
+  // -- Tile kinds, i.e. indexes into the "kinds" masks
+  static final int
+    BEAR = 0,
+    FOX = 1,
+    HUNTER = 2,
+    LUMBERJACK = 3,
+    PHEASANT = 4,
+    DUCK = 5,
+    TREE = 6,
+    KINDS = 7;
+
+  // -- The movement range and point value of each kind of tile
+  private static final int[]
+    RANGES = {1, Integer.MAX_VALUE, Integer.MAX_VALUE, 1,
+      Integer.MAX_VALUE, Integer.MAX_VALUE, 0},
+    VALUES = {10, 5, 5, 5, 3, 2, 2};
+
+  // -- The kind in this class of each TileKind
+  private static final int[] KINDS_BY_TILE_KIND =
+    new int[TileKind.values().length];
+
+  static {
+    for (TileKind kind : TileKind.values()) {
+      switch (kind) {
+        case BEAR:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = BEAR;
+          break;
+        case FOX:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = FOX;
+          break;
+        case LUMBERJACK:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = LUMBERJACK;
+          break;
+        case PHEASANT:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = PHEASANT;
+          break;
+        case DUCK:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = DUCK;
+          break;
+        case TREE:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = TREE;
+          break;
+        default:
+          KINDS_BY_TILE_KIND[kind.ordinal()] = HUNTER;
+      }
+    }
+  }
+
+  // Properties
+  private final Rays rays;  // shared by all boards of this size
+  // -- Bitsets, each one "words" longs long
+  private long[] occupied;
+  private long[] faceDown;
+  private long[] humans;
+  private long[] predators;
+  private long[][] kinds;   // indexed by tile kind
+  private long[][] facing;  // Hunters, indexed by direction - 1
+
+  /**
+   * Constructor for an empty board of the default size
+   *
+   * @param game can't be <code>null</code>
+   */
+  public BitBoard(Game game) {
+    this(game, DEFAULT_SIZE);
+  }
+
+  /**
+   * Constructor for an empty board of the given size
+   *
+   * @param game can't be <code>null</code>
+   * @param size must be odd and positive
+   */
+  public BitBoard(Game game, int size) {
+    super(game, size);
+    this.rays = Rays.forSize(size);
+    int words = (size * size + 63) / 64;
+    occupied = new long[words];
+    faceDown = new long[words];
+    humans = new long[words];
+    predators = new long[words];
+    kinds = new long[KINDS][words];
+    facing = new long[Directional.DIRECTIONS.length][words];
+  }
+
+  /**
+   * Returns the kind of the given tile
+   *
+   * @param tile can't be <code>null</code>
+   * @return one of the kind constants in this class
+   */
+  static int getKind(Tile tile) {
+    return KINDS_BY_TILE_KIND[tile.getKind().ordinal()];
+  }
+
+  /**
+   * Reports whether the given bit is set in the given bitset
+   *
+   * @param bits can't be <code>null</code>
+   * @param square the index of the bit
+   * @return see above
+   */
+  private static boolean isSet(long[] bits, int square) {
+    return (bits[square >>> 6] & (1L << square)) != 0;
+  }
+
+  /**
+   * Sets or clears the given bit in the given bitset
+   *
+   * @param bits can't be <code>null</code>
+   * @param square the index of the bit
+   * @param value true to set it, false to clear it
+   */
+  private static void set(long[] bits, int square, boolean value) {
+    if (value) {
+      bits[square >>> 6] |= 1L << square;
+    }
+    else {
+      bits[square >>> 6] &= ~(1L << square);
+    }
+  }
+
+  /**
+   * Returns the index of the bit for the given square
+   *
+   * @param xPos zero-indexed, assumed to be on the board
+   * @param yPos zero-indexed, assumed to be on the board
+   * @return see above
+   */
+  private int getSquare(int xPos, int yPos) {
+    return rays.getSquare(xPos, yPos);
+  }
+
+  /**
+   * Returns the kind of tile on the given square
+   *
+   * @param square the index of an occupied square
+   * @return one of the kind constants in this class
+   */
+  private int getKind(int square) {
+    for (int kind = 0; kind < KINDS; kind++) {
+      if (isSet(kinds[kind], square))
+        return kind;
+    }
+    throw new IllegalStateException("No tile on square " + square);
+  }
+
+  /**
+   * Returns the team owning the tile on the given square
+   *
+   * @param square the index of an occupied square
+   * @return a non-<code>null</code> Team
+   */
+  private Team getTeam(int square) {
+    if (isSet(humans, square))
+      return Team.HUMANS;
+    if (isSet(predators, square))
+      return Team.PREDATORS;
+    return Team.NEUTRAL;
+  }
+
+  /**
+   * Reports whether a tile of the given kind on the given square can capture
+   * the tile (if any) on the given target square. The target is assumed to be
+   * in a straight line from the capturing tile, in the given direction.
+   *
+   * @param kind the kind of the capturing tile
+   * @param square the capturing tile's square
+   * @param target the square being moved to
+   * @param direction index into Rays.STEP_X/STEP_Y
+   * @return false if the target square is empty or face-down
+   */
+  private boolean canCapture(int kind, int square, int target, int direction) {
+    if (isSet(faceDown, target))
+      return false;
+    switch (kind) {
+      case BEAR:
+        return isSet(humans, target);
+      case FOX:
+        return isSet(kinds[PHEASANT], target) || isSet(kinds[DUCK], target);
+      case HUNTER:
+        return isSet(facing[direction], square)
+          && (isSet(predators, target) || isSet(kinds[PHEASANT], target)
+              || isSet(kinds[DUCK], target));
+      case LUMBERJACK:
+        return isSet(kinds[TREE], target);
+      default:
+        // Neutral tiles can't capture anything
+        return false;
+    }
+  }
+
+  /**
+   * Keeps the masks in step with the superclass' grid
+   *
+   * @see tallyho.model.BoardImpl#setTile(int, int, tallyho.model.tile.Tile)
+   */
+  void setTile(int xPos, int yPos, Tile tile) {
+    int square = getSquare(xPos, yPos);
+    Tile oldTile = getTile(xPos, yPos);
+    if (oldTile != null) {
+      // Clear the old tile's bits
+      set(occupied, square, false);
+      set(faceDown, square, false);
+      set(humans, square, false);
+      set(predators, square, false);
+      set(kinds[getKind(oldTile)], square, false);
+      for (int i = 0; i < facing.length; i++) {
+        set(facing[i], square, false);
+      }
+    }
+    if (tile != null) {
+      // Set the new tile's bits
+      int kind = getKind(tile);
+      set(occupied, square, true);
+      set(faceDown, square, !tile.isFaceUp());
+      set(humans, square, Team.HUMANS.equals(tile.getTeam()));
+      set(predators, square, Team.PREDATORS.equals(tile.getTeam()));
+      set(kinds[kind], square, true);
+      if (kind == HUNTER) {
+        set(facing[tile.getKind().getDirection() - 1], square, true);
+      }
+    }
+    super.setTile(xPos, yPos, tile);
+  }
+
+  /**
+   * @see tallyho.model.BoardImpl#turnFaceUp(int, int, tallyho.model.tile.Tile)
+   */
+  void turnFaceUp(int xPos, int yPos, Tile tile) {
+    super.turnFaceUp(xPos, yPos, tile);
+    set(faceDown, getSquare(xPos, yPos), false);
+  }
+
+  /**
+   * @see tallyho.model.BoardImpl#turnFaceDown(int, int, tallyho.model.tile.Tile)
+   */
+  void turnFaceDown(int xPos, int yPos, Tile tile) {
+    super.turnFaceDown(xPos, yPos, tile);
+    set(faceDown, getSquare(xPos, yPos), true);
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#addPossibleTurns(Team, tallyho.model.turn.TurnList)
+   */
+  public void addPossibleTurns(Team team, TurnList turns) {
+    for (int word = 0; word < occupied.length; word++) {
+      long bits = occupied[word];
+      while (bits != 0) {
+        int square = (word << 6) + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        int x = rays.getX(square);
+        int y = rays.getY(square);
+        if (isSet(faceDown, square)) {
+          turns.add(PackedTurn.flip(team, x, y, getTile(x, y).getKind()));
+        }
+        else {
+          addPossibleMoves(team, square, turns);
+        }
+      }
+    }
+  }
+
+  /**
+   * @see tallyho.model.BoardImpl#addPossibleMoves(Team, int, int, TurnList)
+   */
+  void addPossibleMoves(
+      Team movingTeam, int fromX, int fromY, TurnList moves)
+  {
+    int square = getSquare(fromX, fromY);
+    if (isSet(occupied, square))
+      addPossibleMoves(movingTeam, square, moves);
+  }
+
+  /**
+   * @see tallyho.model.BoardImpl#hasPossibleMove(Team, int, int)
+   */
+  boolean hasPossibleMove(Team movingTeam, int fromX, int fromY) {
+    int square = getSquare(fromX, fromY);
+    if (!isSet(occupied, square))
+      return false;
+    int kind = getMovableKind(movingTeam, square);
+    if (kind < 0)
+      return false;
+    Move justMoved = getMoveNotToReverse(movingTeam, square);
+    for (int direction = 0; direction < Rays.DIRECTIONS; direction++) {
+      int reach = getReach(kind, square, direction);
+      if (reach > 1 || (reach == 1 && !isReversal(justMoved, fromX, fromY,
+          fromX + Rays.STEP_X[direction], fromY + Rays.STEP_Y[direction])))
+      {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds the legal moves of the tile on the given square to the given
+   * list, in the same order as the superclass would generate them
+   * (x-axis then y-axis, each in increasing order of destination).
+   *
+   * @param movingTeam one of Team.HUMANS or Team.PREDATORS
+   * @param square the index of an occupied square
+   * @param moves the list to which to add the moves
+   */
+  private void addPossibleMoves(
+      Team movingTeam, int square, TurnList moves)
+  {
+    int kind = getMovableKind(movingTeam, square);
+    if (kind < 0)
+      return;
+    Move justMoved = getMoveNotToReverse(movingTeam, square);
+
+    // x-axis (SMALL_X then BIG_X), then y-axis (SMALL_Y then BIG_Y)
+    addPossibleMoves(movingTeam, kind, square, 2, 0, justMoved, moves);
+    addPossibleMoves(movingTeam, kind, square, 3, 1, justMoved, moves);
+  }
+
+  /**
+   * Returns the kind of the tile on the given square, if the given team may
+   * move it at all this turn, i.e. it's face-up, mobile, not the other
+   * team's, and not a neutral tile that was just flipped
+   *
+   * @param movingTeam one of Team.HUMANS or Team.PREDATORS
+   * @param square the index of an occupied square
+   * @return -1 if the team can't move that tile
+   */
+  private int getMovableKind(Team movingTeam, int square) {
+    if (Team.NEUTRAL.equals(movingTeam)) {
+      throw new IllegalArgumentException("Moving team can't be neutral.");
+    }
+    if (isSet(faceDown, square))
+      return -1;
+    Team tileTeam = getTeam(square);
+    if (!Team.NEUTRAL.equals(tileTeam) && !movingTeam.equals(tileTeam))
+      return -1;
+    if (getTile(rays.getX(square), rays.getY(square))
+        == getJustFlippedNeutralTile())
+    {
+      return -1;
+    }
+    int kind = getKind(square);
+    if (RANGES[kind] == 0)
+      return -1;
+    return kind;
+  }
+
+  /**
+   * Returns the move that the given team mustn't reverse by moving the tile
+   * on the given square, which is their last move of their own tile if it's
+   * one of theirs
+   *
+   * @param movingTeam one of Team.HUMANS or Team.PREDATORS
+   * @param square the index of an occupied square
+   * @return null if there's no such move
+   */
+  private Move getMoveNotToReverse(Team movingTeam, int square) {
+    if (movingTeam.equals(getTeam(square)))
+      return getJustMovedOwnTile(movingTeam);
+    return null;
+  }
+
+  /**
+   * Adds the legal moves of the given tile along one axis, by walking outwards
+   * in each direction until it meets a tile or the edge of the board.
+   *
+   * @param movingTeam one of Team.HUMANS or Team.PREDATORS
+   * @param kind the kind of the moving tile
+   * @param square the square of the moving tile
+   * @param lowDirection the direction of decreasing coordinates on this axis
+   * @param highDirection the direction of increasing coordinates on this axis
+   * @param justMoved the move not to be reversed, if any
+   * @param moves the list to which to add the moves
+   */
+  private void addPossibleMoves(Team movingTeam, int kind, int square,
+      int lowDirection, int highDirection, Move justMoved,
+      TurnList moves)
+  {
+    int fromX = rays.getX(square);
+    int fromY = rays.getY(square);
+    int first = getReach(kind, square, lowDirection);
+    int last = getReach(kind, square, highDirection);
+    int stepX = Rays.STEP_X[highDirection];
+    int stepY = Rays.STEP_Y[highDirection];
+    for (int i = -first; i <= last; i++) {
+      if (i == 0)
+        continue;
+      int toX = fromX + i * stepX;
+      int toY = fromY + i * stepY;
+      if (isReversal(justMoved, fromX, fromY, toX, toY)) {
+        // Would reverse this team's last move of their own tile
+        continue;
+      }
+      if (isOnBoard(toX, toY)) {
+        int target = getSquare(toX, toY);
+        int score = 0;
+        if (isSet(occupied, target))
+          score = VALUES[getKind(target)];
+        moves.add(PackedTurn.move(movingTeam, fromX, fromY, toX, toY, score));
+      }
+      else {
+        moves.add(PackedTurn.rescue(
+            movingTeam, fromX, fromY, toX, toY, VALUES[kind]));
+      }
+    }
+  }
+
+  /**
+   * Returns how many squares the given tile can move in the given direction,
+   * including onto a tile it can capture or off the board through an exit.
+   * The squares are walked along the precomputed ray from the tile's square.
+   *
+   * @param kind the kind of the moving tile
+   * @param square the square of the moving tile
+   * @param direction index into Rays.STEP_X/STEP_Y
+   * @return zero if it can't move that way at all
+   */
+  private int getReach(int kind, int square, int direction) {
+    int range = RANGES[kind];
+    int[] ray = rays.getRay(square, direction);
+    int limit = Math.min(range, ray.length);
+    for (int i = 0; i < limit; i++) {
+      int target = ray[i];
+      if (isSet(occupied, target)) {
+        if (canCapture(kind, square, target, direction))
+          return i + 1;
+        return i;
+      }
+    }
+    // Off the edge - only allowed through an exit in the end-game, and
+    // never for a neutral tile
+    if (range > ray.length && kind < PHEASANT && rays.isExit(square, direction)
+        && areAllTilesFaceUp())
+    {
+      return ray.length + 1;
+    }
+    return limit;
+  }
+
+  /**
+   * @see java.lang.Object#clone()
+   * @throws CloneNotSupportedException only if the superclass does
+   */
+  public Object clone() throws CloneNotSupportedException {
+    BitBoard clone = (BitBoard) super.clone();
+    clone.occupied = occupied.clone();
+    clone.faceDown = faceDown.clone();
+    clone.humans = humans.clone();
+    clone.predators = predators.clone();
+    clone.kinds = new long[KINDS][];
+    for (int kind = 0; kind < KINDS; kind++) {
+      clone.kinds[kind] = kinds[kind].clone();
+    }
+    clone.facing = new long[facing.length][];
+    for (int i = 0; i < facing.length; i++) {
+      clone.facing[i] = facing[i].clone();
+    }
+    return clone;
+  }
+}
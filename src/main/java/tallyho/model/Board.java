@@ -6,16 +6,20 @@ package tallyho.model;
 import java.awt.geom.Point2D;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Random;
 
 import tallyho.model.player.Player;
 import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
 import tallyho.model.turn.Move;
+import tallyho.model.turn.PackedTurn;
 import tallyho.model.turn.Turn;
+import tallyho.model.turn.TurnList;
 
 /**
  * Defines the behaviour of a Tally Ho game board
  */
-public interface Board extends Cloneable, Observable {
+public interface Board extends Cloneable {
 
   /**
    * The maximum size of a board
@@ -107,6 +111,108 @@ public interface Board extends Cloneable, Observable {
    */
   void haveTurn(Player player, Turn turn) throws IllegalMoveException;
 
+  /**
+   * Returns a 64-bit Zobrist hash of this position, i.e. of the face-up
+   * tiles (with each Hunter's direction), the squares with face-down tiles
+   * (but not what they are), the just-flipped and just-moved tiles, and whose
+   * turn it is. It's kept up to date as the board changes, so is cheap to
+   * call. Positions that look the same have equal hashes, and different ones
+   * almost certainly don't.
+   * 
+   * @return see above
+   */
+  long getHash();
+
+  /**
+   * Returns the source of random numbers for the game this board belongs to,
+   * e.g. for shuffling the tiles or for an AI to choose between equally good
+   * turns. Copies of the board share it.
+   * 
+   * @return a non-<code>null</code> Random
+   */
+  Random getRandom();
+
+  /**
+   * Adds the given listener, to be told of each turn had on this board
+   * (i.e. flip, move or pass), after it's been had. Turns applied with
+   * {@link #apply(Turn)} aren't reported, and copies of this board don't
+   * have its listeners.
+   * 
+   * @param listener can't be <code>null</code>
+   */
+  void addBoardListener(BoardListener listener);
+
+  /**
+   * Removes the given listener, if it's listening to this board
+   * 
+   * @param listener the listener to remove
+   */
+  void removeBoardListener(BoardListener listener);
+
+  /**
+   * Returns the total point value of the given team's tiles on this board
+   * that are face-up, or those that are face-down. Like the hash, it's kept
+   * up to date as the board changes, so is cheap to call (e.g. by an AI
+   * evaluating many positions).
+   * 
+   * @param team can't be <code>null</code>
+   * @param faceUp true for the face-up tiles, false for the face-down ones
+   * @return zero or more
+   */
+  int getTileValue(Team team, boolean faceUp);
+
+  /**
+   * Returns how many face-down tiles of the given kind are on this board.
+   * Which way a face-down Hunter faces can't be seen, so any kind of Hunter
+   * counts the face-down Hunters facing every way. Like the tile values, it's
+   * kept up to date as the board changes, so is cheap to call.
+   * 
+   * @param kind can't be <code>null</code>
+   * @return zero or more
+   */
+  int getFaceDownCount(TileKind kind);
+
+  /**
+   * Makes the given turn on this board without validating it, scoring it for
+   * any player, or notifying observers. Intended for searches that explore
+   * many positions on a single board, each turn being taken back with
+   * {@link #undo(UndoRecord)} in the reverse order to which they were applied.
+   * <p>
+   * If a Flip's tile is a different face-down tile elsewhere on this board,
+   * that tile is supposed to be the one being flipped: the two are swapped
+   * before flipping, and swapped back on undo. This lets a search try out
+   * what a flip might reveal without knowing what it actually will.
+   * 
+   * @param turn a Flip, Move, or Pass that is legal on this board, e.g. one
+   *   returned by {@link #getPossibleTurns(Team)}
+   * @return a record of what changed, including the points scored
+   */
+  UndoRecord apply(Turn turn);
+
+  /**
+   * As for {@link #apply(Turn)}, but for a turn encoded as per
+   * {@link PackedTurn}. A Flip supposed to reveal a different kind of tile
+   * from the one there swaps in the first face-down tile of that kind. If
+   * it's a Hunter and no face-down Hunter faces that way, the first one
+   * found is swapped in and replaced by a new Hunter facing that way, which
+   * is replaced by the original on undo.
+   * 
+   * @param turn an encoded turn that is legal on this board, e.g. one added
+   *   by {@link #addPossibleTurns(Team, TurnList)}
+   * @return a record of what changed, including the points scored
+   */
+  UndoRecord apply(int turn);
+
+  /**
+   * Takes back the most recently applied turn, restoring the tiles, their
+   * face-up state, and the rules state (just-flipped and just-moved tiles)
+   * exactly as they were before it.
+   * 
+   * @param record the record returned when that turn was applied to this board
+   * @throws IllegalArgumentException if the record is from another board
+   */
+  void undo(UndoRecord record);
+
   /**
    * Reports whether the given team can do anything on their turn
    * 
@@ -123,6 +229,16 @@ public interface Board extends Cloneable, Observable {
    */
   Collection<Turn> getPossibleTurns(Team team);
 
+  /**
+   * Adds all possible turns for the given team to the given list, encoded as
+   * per {@link PackedTurn}, in the same order as
+   * {@link #getPossibleTurns(Team)} returns them
+   * 
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param turns the list to add them to; can't be <code>null</code>
+   */
+  void addPossibleTurns(Team team, TurnList turns);
+
   /**
    * Returns the possible moves of the tile at the given position
    * 
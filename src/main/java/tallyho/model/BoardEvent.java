@@ -0,0 +1,101 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import tallyho.model.turn.Flip;
+import tallyho.model.turn.Move;
+import tallyho.model.turn.Pass;
+import tallyho.model.turn.Turn;
+
+/**
+ * The record of a turn had on a Board, as passed to its listeners. Immutable.
+ */
+public final class BoardEvent {
+
+  // Properties
+  private final Board board;
+  private final Turn turn;
+
+  /**
+   * Constructor
+   *
+   * @param board the board on which the turn was had; can't be
+   *   <code>null</code>
+   * @param turn the Flip, Move or Pass that was had; can't be
+   *   <code>null</code>
+   */
+  BoardEvent(Board board, Turn turn) {
+    // Check input
+    if (board == null)
+      throw new IllegalArgumentException("Board can't be null");
+    if (turn == null)
+      throw new IllegalArgumentException("Turn can't be null");
+
+    this.board = board;
+    this.turn = turn;
+  }
+
+  /**
+   * Returns the board on which the turn was had
+   *
+   * @return a non-<code>null</code> Board
+   */
+  public Board getBoard() {
+    return board;
+  }
+
+  /**
+   * Returns the turn that was had
+   *
+   * @return a non-<code>null</code> Flip, Move (including a Rescue) or Pass
+   */
+  public Turn getTurn() {
+    return turn;
+  }
+
+  /**
+   * Returns the team that had the turn
+   *
+   * @return one of Team.HUMANS or Team.PREDATORS
+   */
+  public Team getTeam() {
+    return turn.getTeam();
+  }
+
+  /**
+   * Reports whether a tile was flipped
+   *
+   * @return see above
+   */
+  public boolean isFlip() {
+    return turn instanceof Flip;
+  }
+
+  /**
+   * Reports whether a tile was moved (including being rescued)
+   *
+   * @return see above
+   */
+  public boolean isMove() {
+    return turn instanceof Move;
+  }
+
+  /**
+   * Reports whether the team passed
+   *
+   * @return see above
+   */
+  public boolean isPass() {
+    return turn instanceof Pass;
+  }
+
+  /**
+   * For debugging
+   *
+   * @see java.lang.Object#toString()
+   */
+  public String toString() {
+    return "BoardEvent[" + turn + "]";
+  }
+}
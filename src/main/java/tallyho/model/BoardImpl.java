@@ -3,14 +3,13 @@
  */
 package tallyho.model;
 
-import java.awt.Point;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Observable;
+import java.util.Random;
 
 import tallyho.model.player.Player;
 import tallyho.model.tile.AbstractTile;
@@ -22,17 +21,20 @@ import tallyho.model.tile.Hunter;
 import tallyho.model.tile.Lumberjack;
 import tallyho.model.tile.Pheasant;
 import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
 import tallyho.model.tile.Tree;
 import tallyho.model.turn.Flip;
 import tallyho.model.turn.Move;
+import tallyho.model.turn.PackedTurn;
 import tallyho.model.turn.Pass;
 import tallyho.model.turn.Rescue;
 import tallyho.model.turn.Turn;
+import tallyho.model.turn.TurnList;
 
 /**
  * Represents the board in a game of Tally Ho
  */
-public class BoardImpl extends Observable implements Board, tallyho.model.Observable {
+public class BoardImpl implements Board {
 
   /**
    * Allows iteration through the Tiles on a BoardImpl
@@ -88,7 +90,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     }
   }
   
-  private static final int
+  static final int
     // -- Number of tiles
     BEARS = 2,
     FOXES = 6,
@@ -100,6 +102,8 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
 	  // -- Default board size
     DEFAULT_SIZE = 7;	// of published game board
 	
+  private static final BoardListener[] NO_LISTENERS = new BoardListener[0];
+
   private static final String
     MSG_WRONG_DIRECTION = "Hunters can only capture the way they are facing.";
   
@@ -107,6 +111,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
   private Tile[][] tiles; // needs not to be final so we can clone it
   private final int centre;
   private final int maxIndex; // i.e. size - 1
+  private final Rays rays;    // shared by all boards of this size
 
   private Tile justFlippedNeutralTile;
   // -- The moves each player made of one of their own tiles last turn.
@@ -114,7 +119,29 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
   private Move justMovedHuman;
   private Move justMovedPredator;
   private boolean allTilesFaceUp;
-  private boolean isClone;
+  // -- How many tiles are face-down, and how many each team has, kept up to
+  // -- date as tiles are placed and flipped so that the end-of-round checks
+  // -- don't have to look at every square
+  private int faceDownTiles;
+  private int humanTiles;
+  private int predatorTiles;
+  // -- The total value of each team's tiles on the board, face-up and
+  // -- face-down, indexed by Team ordinal; kept up to date likewise
+  private int[] faceUpValues = new int[Team.values().length];
+  private int[] faceDownValues = new int[Team.values().length];
+  // -- How many tiles of each kind are face-down, indexed by TileKind
+  // -- ordinal; Hunters are all counted as facing BIG_X, since which way a
+  // -- face-down one faces can't be seen
+  private int[] faceDownKinds = new int[TileKind.values().length];
+  // -- Zobrist hash of the position, and the part of it for the just-flipped
+  // -- neutral tile
+  private long hash;
+  private long justFlippedKey;
+  // -- the game's source of random numbers
+  private final Random random;
+  // -- told of each turn had; replaced rather than changed, so that turns
+  // -- can be reported without locking, and never carried by a clone
+  private volatile BoardListener[] listeners = NO_LISTENERS;
     	
 	/**
 	 * Constructor for an empty board of the default size 
@@ -145,10 +172,12 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
           "BoardImpl size can't be more than " + MAX_SIZE);
     }
     
+    random = game.getRandom();
     maxIndex = size - 1;
     tiles = new Tile[size][size];
     allTilesFaceUp = true;
     centre = (size - 1) / 2;
+    rays = Rays.forSize(size);
   }
 
   /* (non-Javadoc)
@@ -176,10 +205,107 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
       throw new IllegalArgumentException("This tile is already on the board.");
         
     // Inputs correct - place the tile
-    tiles[xPos][yPos] = tile;
+    setTile(xPos, yPos, tile);
     allTilesFaceUp = false;
   }
 
+  /**
+   * Places the given tile (or nothing) on the given square. All changes to
+   * the contents of the board go through this method, so that subclasses can
+   * keep any state they derive from the tiles in step.
+   * 
+   * @param xPos zero-indexed, assumed to be on the board
+   * @param yPos zero-indexed, assumed to be on the board
+   * @param tile <code>null</code> to clear the square
+   */
+  void setTile(int xPos, int yPos, Tile tile) {
+    Tile oldTile = tiles[xPos][yPos];
+    if (oldTile != null) {
+      hash ^= ZobristKeys.getTileKey(oldTile, xPos, yPos);
+      count(oldTile, -1);
+    }
+    tiles[xPos][yPos] = tile;
+    if (tile != null) {
+      hash ^= ZobristKeys.getTileKey(tile, xPos, yPos);
+      count(tile, 1);
+    }
+  }
+
+  /**
+   * Adjusts the counts of tiles on the board by the given tile
+   * 
+   * @param tile can't be <code>null</code>
+   * @param change 1 if the tile is being placed, -1 if it's being removed
+   */
+  private void count(Tile tile, int change) {
+    Team team = tile.getTeam();
+    if (tile.isFaceUp()) {
+      faceUpValues[team.ordinal()] += change * tile.getValue();
+    }
+    else {
+      faceDownTiles += change;
+      faceDownValues[team.ordinal()] += change * tile.getValue();
+      faceDownKinds[getCountedKind(tile.getKind())] += change;
+    }
+    if (Team.HUMANS.equals(team))
+      humanTiles += change;
+    else if (Team.PREDATORS.equals(team))
+      predatorTiles += change;
+  }
+
+  /**
+   * Returns the index under which face-down tiles of the given kind are
+   * counted
+   * 
+   * @param kind can't be <code>null</code>
+   * @return the ordinal of the kind, or of HUNTER_BIG_X for any Hunter
+   */
+  private static int getCountedKind(TileKind kind) {
+    if (kind.getDirection() != 0)
+      return TileKind.HUNTER_BIG_X.ordinal();
+    return kind.ordinal();
+  }
+
+  /**
+   * Turns the given tile face up. Like {@link #setTile(int, int, Tile)}, this
+   * is the single point through which a tile changes state on this board.
+   * 
+   * @param xPos the x-coordinate of the tile, zero-indexed
+   * @param yPos the y-coordinate of the tile, zero-indexed
+   * @param tile the tile at those coordinates, can't be <code>null</code>
+   */
+  void turnFaceUp(int xPos, int yPos, Tile tile) {
+    hash ^= ZobristKeys.getTileKey(tile, xPos, yPos);
+    if (!tile.isFaceUp()) {
+      faceDownTiles--;
+      faceDownValues[tile.getTeam().ordinal()] -= tile.getValue();
+      faceDownKinds[getCountedKind(tile.getKind())]--;
+      faceUpValues[tile.getTeam().ordinal()] += tile.getValue();
+    }
+    tile.setFaceUp();
+    hash ^= ZobristKeys.getTileKey(tile, xPos, yPos);
+  }
+
+  /**
+   * Turns the given tile face down again; only used to take back a flip.
+   * 
+   * @param xPos the x-coordinate of the tile, zero-indexed
+   * @param yPos the y-coordinate of the tile, zero-indexed
+   * @param tile the tile at those coordinates, can't be <code>null</code>
+   * @see #turnFaceUp(int, int, Tile)
+   */
+  void turnFaceDown(int xPos, int yPos, Tile tile) {
+    hash ^= ZobristKeys.getTileKey(tile, xPos, yPos);
+    if (tile.isFaceUp()) {
+      faceDownTiles++;
+      faceUpValues[tile.getTeam().ordinal()] -= tile.getValue();
+      faceDownValues[tile.getTeam().ordinal()] += tile.getValue();
+      faceDownKinds[getCountedKind(tile.getKind())]++;
+    }
+    tile.setFaceDown();
+    hash ^= ZobristKeys.getTileKey(tile, xPos, yPos);
+  }
+
   /**
    * Reports whether the board contains the given Tile
    * 
@@ -286,25 +412,20 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     if (tile == null)
       throw new IllegalArgumentException(
           "There is no tile at those coordinates.");
-    tile.setFaceUp();
+    turnFaceUp(xPos, yPos, tile);
     
     // Update the just-flipped neutral tile
     if (Team.NEUTRAL.equals(tile.getTeam())) {
       // This tile is neutral - remember it was just flipped
-      justFlippedNeutralTile = tile;
+      setJustFlippedNeutralTile(tile, xPos, yPos);
     }
     else {
       // The tile wasn't neutral - remember no neutral tile was just flipped
-      justFlippedNeutralTile = null;
+      clearJustFlippedNeutralTile();
     }
 
     // Remember this team didn't just move one of their own tiles
-    if (Team.HUMANS.equals(flippingTeam)) {
-      justMovedHuman = null;
-    }
-    else {
-      justMovedPredator = null;
-    }
+    clearJustMovedOwnTile(flippingTeam);
     
     // Perform the end-of-turn processing
     endTurn(new Flip(flippingTeam, xPos, yPos, tile));
@@ -318,41 +439,72 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    */
   void pass(Team passingTeam) {
     // Clear the just-flipped neutral tile
-    justFlippedNeutralTile = null;
+    clearJustFlippedNeutralTile();
     
     // Clear the record of any own tile this team last moved
     switch (passingTeam) {
       case HUMANS:
-        justMovedHuman = null;
-        break;
       case PREDATORS:
-        justMovedPredator = null;
+        clearJustMovedOwnTile(passingTeam);
         break;
       default:
         throw new IllegalArgumentException("Invalid team: " + passingTeam);
     }
     
-    endTurn(null);
+    endTurn(new Pass(passingTeam));
   }
   
   /**
    * Performs any processing needed at the end of a turn (that is, after a tile
    * has been flipped or moved, or a player has passed).
    * 
-   * @param turn the action (flip or move) that happened this turn. Can't be a
-   * pass.
+   * @param turn the flip, move or pass that happened this turn; can't be
+   *   <code>null</code>
    */
   private void endTurn(Turn turn) {
-    if (turn instanceof Pass)
-      throw new IllegalArgumentException("Turn can't be a pass");
-    
     // Check if all tiles are now face up
     checkAllTilesFaceUp();
+    
+    // It's now the other team's turn
+    hash ^= ZobristKeys.SIDE_TO_MOVE;
+
+    // Tell the listeners that the board position changed
+    BoardListener[] currentListeners = listeners;
+    if (currentListeners.length > 0) {
+      BoardEvent event = new BoardEvent(this, turn);
+      for (int i = 0; i < currentListeners.length; i++) {
+        currentListeners[i].boardChanged(event);
+      }
+    }
+  }
 
-    // Notify the observers that the board position changed
-    if (!isClone) {
-      setChanged();
-      notifyObservers(turn);
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#addBoardListener(tallyho.model.BoardListener)
+   */
+  public synchronized void addBoardListener(BoardListener listener) {
+    // Check input
+    if (listener == null)
+      throw new IllegalArgumentException("Listener can't be null");
+
+    BoardListener[] newListeners = new BoardListener[listeners.length + 1];
+    System.arraycopy(listeners, 0, newListeners, 0, listeners.length);
+    newListeners[listeners.length] = listener;
+    listeners = newListeners;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#removeBoardListener(tallyho.model.BoardListener)
+   */
+  public synchronized void removeBoardListener(BoardListener listener) {
+    for (int i = 0; i < listeners.length; i++) {
+      if (listeners[i] == listener) {
+        BoardListener[] newListeners = new BoardListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, newListeners, 0, i);
+        System.arraycopy(listeners, i + 1, newListeners, i,
+            newListeners.length - i);
+        listeners = newListeners;
+        return;
+      }
     }
   }
   
@@ -361,20 +513,31 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * the local flag accordingly 
    */
   private void checkAllTilesFaceUp() {
-    for (int x = 0; x <= maxIndex; x++) {
-      for (int y = 0; y <= maxIndex; y++) {
-        Tile tile = getTile(x, y);
-        if (tile != null && !tile.isFaceUp()) {
-          // Found a face-down tile
-          allTilesFaceUp = false;
-          // No need to look further
-          return;
-        }
-      }
-    }
-    allTilesFaceUp = true;
+    allTilesFaceUp = !isAnyTileFaceDown();
+  }
+
+  /**
+   * Reports whether any tile on the board is face-down
+   * 
+   * @return false if the board is empty
+   */
+  boolean isAnyTileFaceDown() {
+    return faceDownTiles > 0;
   }
   
+  /**
+   * Returns the move this team made of one of their own tiles last turn
+   * 
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return null if that team didn't move one of their own tiles last turn
+   */
+  Move getJustMovedOwnTile(Team team) {
+    if (Team.PREDATORS.equals(team)) {
+      return justMovedPredator;
+    }
+    return justMovedHuman;
+  }
+
   /* (non-Javadoc)
    * @see tallyho.model.Board#getJustFlippedNeutralTile()
    */
@@ -402,15 +565,12 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * @see tallyho.model.Board#getTile(int, int)
    */
   public Tile getTile(int xPos, int yPos) {
-    try {
-      validateCoordsOnBoard(xPos, yPos);
-      // Coordinates are on the board - return the tile, if any
-      return tiles[xPos][yPos];
-    }
-    catch (IllegalMoveException ex) {
+    if (!isOnBoard(xPos, yPos)) {
       // Coordinates are off the board
       return null;
     }
+    // Coordinates are on the board - return the tile, if any
+    return tiles[xPos][yPos];
   }
 
   /* (non-Javadoc)
@@ -436,6 +596,331 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     }
   }
   
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#getHash()
+   */
+  public long getHash() {
+    return hash;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#getRandom()
+   */
+  public Random getRandom() {
+    return random;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#getTileValue(tallyho.model.Team, boolean)
+   */
+  public int getTileValue(Team team, boolean faceUp) {
+    if (faceUp)
+      return faceUpValues[team.ordinal()];
+    return faceDownValues[team.ordinal()];
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#getFaceDownCount(tallyho.model.tile.TileKind)
+   */
+  public int getFaceDownCount(TileKind kind) {
+    return faceDownKinds[getCountedKind(kind)];
+  }
+
+  /**
+   * Works out this board's hash from scratch, apart from whose turn it is
+   * (which only the incremental hash knows)
+   * 
+   * @return see above
+   */
+  long computeHash() {
+    long newHash = 0;
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        Tile tile = tiles[x][y];
+        if (tile != null) {
+          newHash ^= ZobristKeys.getTileKey(tile, x, y);
+          if (tile == justFlippedNeutralTile)
+            newHash ^= ZobristKeys.getJustFlippedKey(x, y);
+        }
+      }
+    }
+    newHash ^= ZobristKeys.getJustMovedKey(Team.HUMANS, justMovedHuman);
+    newHash ^= ZobristKeys.getJustMovedKey(Team.PREDATORS, justMovedPredator);
+    return newHash;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#apply(tallyho.model.turn.Turn)
+   */
+  public UndoRecord apply(Turn turn) {
+    // Check input
+    if (turn == null)
+      throw new IllegalArgumentException("Turn can't be null");
+    if (Team.NEUTRAL.equals(turn.getTeam()))
+      throw new IllegalArgumentException("Turn can't be by the neutral team");
+
+    Tile supposedTile = null;
+    if (turn instanceof Flip)
+      supposedTile = ((Flip) turn).getTile();
+    return apply(PackedTurn.pack(turn), turn, supposedTile);
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#apply(int)
+   */
+  public UndoRecord apply(int turn) {
+    return apply(turn, null, null);
+  }
+
+  /**
+   * Makes the given turn, as for {@link #apply(Turn)}
+   * 
+   * @param packedTurn the turn, encoded as per PackedTurn
+   * @param turn the same turn as an object, or <code>null</code> if it was
+   *   only given in encoded form
+   * @param supposedTile the tile a Flip is supposed to reveal; if
+   *   <code>null</code>, one of the kind given in the encoded turn
+   * @return a record of what changed
+   */
+  private UndoRecord apply(int packedTurn, Turn turn, Tile supposedTile) {
+    Team team = PackedTurn.getTeam(packedTurn);
+    UndoRecord record = new UndoRecord(this, packedTurn, turn,
+        justFlippedNeutralTile, justMovedHuman, justMovedPredator,
+        allTilesFaceUp, hash, justFlippedKey);
+    if (PackedTurn.isFlip(packedTurn)) {
+      int x = PackedTurn.getX(packedTurn);
+      int y = PackedTurn.getY(packedTurn);
+      Tile tile = tiles[x][y];
+      // Suppose a different hidden tile is there, if need be
+      int otherSquare = -1;
+      int direction = 0;
+      if (supposedTile != null) {
+        if (supposedTile != tile)
+          otherSquare = getFaceDownSquare(supposedTile);
+      }
+      else {
+        TileKind kind = PackedTurn.getTileKind(packedTurn);
+        if (kind != null && kind != tile.getKind()) {
+          otherSquare = getFaceDownSquare(kind);
+          if (otherSquare < 0 && kind.getDirection() != 0) {
+            // No hidden Hunter faces that way, so suppose one does
+            direction = kind.getDirection();
+            if (!(tile instanceof Hunter))
+              otherSquare = getFaceDownHunterSquare();
+          }
+        }
+      }
+      if (otherSquare >= 0) {
+        // Swap them over first
+        swapTiles(x, y, otherSquare % (maxIndex + 1),
+            otherSquare / (maxIndex + 1));
+        record.setSwappedSquare(otherSquare);
+        tile = tiles[x][y];
+      }
+      if (direction != 0) {
+        // Put a Hunter facing that way in place of the hidden one
+        record.setReplacedHunter(tile);
+        tile = new Hunter(direction);
+        setTile(x, y, tile);
+      }
+      turnFaceUp(x, y, tile);
+      record.setFlippedTile(tile);
+      if (Team.NEUTRAL.equals(tile.getTeam()))
+        setJustFlippedNeutralTile(tile, x, y);
+      else
+        clearJustFlippedNeutralTile();
+      clearJustMovedOwnTile(team);
+      checkAllTilesFaceUp();
+    }
+    else if (PackedTurn.isMove(packedTurn)) {
+      int fromX = PackedTurn.getFromX(packedTurn);
+      int fromY = PackedTurn.getFromY(packedTurn);
+      int toX = PackedTurn.getToX(packedTurn);
+      int toY = PackedTurn.getToY(packedTurn);
+      Tile capturedTile = removeTile(toX, toY);
+      Tile movingTile = removeTile(fromX, fromY);
+      int score;
+      if (isOnBoard(toX, toY)) {
+        setTile(toX, toY, movingTile);
+        score = (capturedTile == null) ? 0 : capturedTile.getValue();
+      }
+      else {
+        // Rescued
+        score = movingTile.getValue();
+      }
+      record.setMovedTiles(movingTile, capturedTile, score);
+      clearJustFlippedNeutralTile();
+      setPreviouslyMovedOwnTile(team, movingTile, fromX, fromY, toX, toY);
+    }
+    else {
+      // A pass
+      clearJustFlippedNeutralTile();
+      clearJustMovedOwnTile(team);
+    }
+    hash ^= ZobristKeys.SIDE_TO_MOVE;
+    return record;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#undo(tallyho.model.UndoRecord)
+   */
+  public void undo(UndoRecord record) {
+    // Check input
+    if (record == null || record.getBoard() != this)
+      throw new IllegalArgumentException("Record isn't from this board");
+
+    int turn = record.getPackedTurn();
+    if (PackedTurn.isFlip(turn)) {
+      int x = PackedTurn.getX(turn);
+      int y = PackedTurn.getY(turn);
+      turnFaceDown(x, y, tiles[x][y]);
+      if (record.getReplacedHunter() != null)
+        setTile(x, y, record.getReplacedHunter());
+      int swappedSquare = record.getSwappedSquare();
+      if (swappedSquare >= 0) {
+        swapTiles(x, y, swappedSquare % (maxIndex + 1),
+            swappedSquare / (maxIndex + 1));
+      }
+    }
+    else if (PackedTurn.isMove(turn)) {
+      int toX = PackedTurn.getToX(turn);
+      int toY = PackedTurn.getToY(turn);
+      if (isOnBoard(toX, toY))
+        setTile(toX, toY, record.getCapturedTile());
+      setTile(PackedTurn.getFromX(turn), PackedTurn.getFromY(turn),
+          record.getMovedTile());
+    }
+    justFlippedNeutralTile = record.getJustFlippedNeutralTile();
+    justMovedHuman = record.getJustMovedHuman();
+    justMovedPredator = record.getJustMovedPredator();
+    allTilesFaceUp = record.wereAllTilesFaceUp();
+    hash = record.getHash();
+    justFlippedKey = record.getJustFlippedKey();
+  }
+
+  /**
+   * Returns the square of the given tile on this board, if it's there and
+   * face-down
+   * 
+   * @param tile the tile to look for
+   * @return y * size + x, or -1 if it's not a face-down tile on this board
+   */
+  private int getFaceDownSquare(Tile tile) {
+    if (tile.isFaceUp())
+      return -1;
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        if (tiles[x][y] == tile)
+          return y * (maxIndex + 1) + x;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the square of the first face-down tile of the given kind on this
+   * board, looking along each row in turn
+   * 
+   * @param kind the kind to look for
+   * @return y * size + x, or -1 if there's no such tile
+   */
+  private int getFaceDownSquare(TileKind kind) {
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        Tile tile = tiles[x][y];
+        if (tile != null && !tile.isFaceUp() && tile.getKind() == kind)
+          return y * (maxIndex + 1) + x;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the square of the first face-down Hunter on this board, facing
+   * any way, looking along each row in turn
+   * 
+   * @return y * size + x, or -1 if there's no such tile
+   */
+  private int getFaceDownHunterSquare() {
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        Tile tile = tiles[x][y];
+        if (tile instanceof Hunter && !tile.isFaceUp())
+          return y * (maxIndex + 1) + x;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Swaps the tiles on the given squares
+   * 
+   * @param x1 the x-coordinate of one square, zero-indexed
+   * @param y1 the y-coordinate of one square, zero-indexed
+   * @param x2 the x-coordinate of the other square, zero-indexed
+   * @param y2 the y-coordinate of the other square, zero-indexed
+   */
+  private void swapTiles(int x1, int y1, int x2, int y2) {
+    Tile tile1 = tiles[x1][y1];
+    Tile tile2 = tiles[x2][y2];
+    setTile(x1, y1, null);
+    setTile(x2, y2, tile1);
+    setTile(x1, y1, tile2);
+  }
+
+  /**
+   * Records that the given team didn't move one of their own tiles this turn
+   * 
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   */
+  private void clearJustMovedOwnTile(Team team) {
+    setJustMovedOwnTile(team, null);
+  }
+
+  /**
+   * Records the move the given team made of one of their own tiles this turn,
+   * keeping the hash up to date
+   * 
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param move <code>null</code> if they didn't move one of their own tiles
+   */
+  private void setJustMovedOwnTile(Team team, Move move) {
+    if (Team.HUMANS.equals(team)) {
+      hash ^= ZobristKeys.getJustMovedKey(team, justMovedHuman)
+        ^ ZobristKeys.getJustMovedKey(team, move);
+      justMovedHuman = move;
+    }
+    else {
+      hash ^= ZobristKeys.getJustMovedKey(team, justMovedPredator)
+        ^ ZobristKeys.getJustMovedKey(team, move);
+      justMovedPredator = move;
+    }
+  }
+
+  /**
+   * Records that the given neutral tile was just flipped, keeping the hash up
+   * to date
+   * 
+   * @param tile the tile, can't be <code>null</code>
+   * @param xPos the x-coordinate of the tile, zero-indexed
+   * @param yPos the y-coordinate of the tile, zero-indexed
+   */
+  private void setJustFlippedNeutralTile(Tile tile, int xPos, int yPos) {
+    hash ^= justFlippedKey;
+    justFlippedNeutralTile = tile;
+    justFlippedKey = ZobristKeys.getJustFlippedKey(xPos, yPos);
+    hash ^= justFlippedKey;
+  }
+
+  /**
+   * Records that no neutral tile was just flipped, keeping the hash up to date
+   */
+  private void clearJustFlippedNeutralTile() {
+    hash ^= justFlippedKey;
+    justFlippedNeutralTile = null;
+    justFlippedKey = 0;
+  }
+  
   /**
    * Reports whether both the Human and Predator teams have
    * tiles left on the board (this is a game-ending condition).
@@ -447,27 +932,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * @return see above
    */
   boolean areBothTeamsRepresented() {
-    boolean humansRepresented = false;
-    boolean predatorsRepresented = false;
-    // Loop through the tiles on the board
-    Iterator iter = getIterator();
-    while (iter.hasNext()) {
-      Tile tile = (Tile) iter.next();
-      if (tile != null) {
-        Team team = tile.getTeam();
-        if (Team.HUMANS.equals(team)) {
-          humansRepresented = true;
-        }
-        else if (Team.PREDATORS.equals(team)) {
-          predatorsRepresented = true;
-        }
-        if (humansRepresented && predatorsRepresented) {
-          // No need to check any further
-          return true;
-        }
-      }
-    }
-    return false;
+    return humanTiles > 0 && predatorTiles > 0;
   }
   
   /* (non-Javadoc)
@@ -498,7 +963,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     // Loop through all the squares on the board
     for (int y = 0; y <= maxIndex; y++) {
       for (int x = 0; x <= maxIndex; x++) {
-        if (isMovementPossible(team, new Point(x, y)))
+        if (hasPossibleMove(team, x, y))
           return true;
       }
     }
@@ -510,21 +975,36 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * @see tallyho.model.Board#getPossibleTurns(Team)
    */
   public Collection<Turn> getPossibleTurns(Team team) {
-    Collection<Turn> allMoves = new ArrayList<Turn>();
+    TurnList packedTurns = new TurnList();
+    addPossibleTurns(team, packedTurns);
+    Collection<Turn> allMoves = new ArrayList<Turn>(packedTurns.size());
+    for (int i = 0; i < packedTurns.size(); i++) {
+      int turn = packedTurns.get(i);
+      Tile flippedTile = null;
+      if (PackedTurn.isFlip(turn))
+        flippedTile = tiles[PackedTurn.getX(turn)][PackedTurn.getY(turn)];
+      allMoves.add(PackedTurn.toTurn(turn, flippedTile));
+    }
+    return allMoves;
+  }
+
+  /* (non-Javadoc)
+   * @see tallyho.model.Board#addPossibleTurns(Team, tallyho.model.turn.TurnList)
+   */
+  public void addPossibleTurns(Team team, TurnList turns) {
     for (int y = 0; y <= maxIndex; y++) {
       for (int x = 0; x <= maxIndex; x++) {
-        Tile tile = getTile(x, y);
+        Tile tile = tiles[x][y];
         if (tile != null) {
           if (!tile.isFaceUp()) {
-            allMoves.add(new Flip(team, x ,y, tile));
+            turns.add(PackedTurn.flip(team, x, y, tile.getKind()));
           }
           else {
-            allMoves.addAll(getPossibleMoves(team, x, y));
+            addPossibleMoves(team, x, y, turns);
           }
         }
       }
     }
-    return allMoves;
   }
   
   /* (non-Javadoc)
@@ -556,41 +1036,41 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
       Team movingTeam, Tile tile, int fromX, int fromY)
   {
     // Check given origin is valid
-    try {
-      validateCoordsOnBoard(fromX, fromY);
-    }
-    catch (IllegalMoveException ex) {
-      throw new IllegalArgumentException(ex.getMessage());
+    if (!isOnBoard(fromX, fromY)) {
+      throw new IllegalArgumentException(
+        "Invalid x,y coords: " + fromX + "," + fromY);
     }
 
     // Create a collection to hold the moves
     Collection<Move> moves = new ArrayList<Move>();
-    if (tile != null && tile.isFaceUp() && tile.getRange() > 0) {
-      // Add x-axis moves
-      moves.addAll(getPossibleMoves(movingTeam, fromX, fromY, true));
-      // Add y-axis moves
-      moves.addAll(getPossibleMoves(movingTeam, fromX, fromY, false));
+    if (tile != null) {
+      TurnList packedMoves = new TurnList();
+      addPossibleMoves(movingTeam, fromX, fromY, packedMoves);
+      for (int i = 0; i < packedMoves.size(); i++) {
+        moves.add((Move) PackedTurn.toTurn(packedMoves.get(i), null));
+      }
     }
     return moves;
   }
 
   /**
-   * Returns the point value of moving the tile from/to the given coordinates.
-   * Assumes such a move is legal (including moving off-board in endgame).
+   * Adds the moves (not flips) that the tile on the given square can legally
+   * make to the given list, encoded as per PackedTurn: those along the x-axis
+   * then those along the y-axis
    * 
-   * @param fromX
-   * @param fromY
-   * @param toX
-   * @param toY
-   * @return see above
+   * @param movingTeam the team moving the tile, one of Team.HUMANS or
+   *   Team.PREDATORS
+   * @param fromX zero-indexed, from 0 to maxIndex
+   * @param fromY zero-indexed, from 0 to maxIndex
+   * @param moves the list to which to add the moves
    */
-  private int getScore(int fromX, int fromY, int toX, int toY) {
-    Tile movingTile = getTile(fromX, fromY);
-    if (movingTile == null)
-      throw new IllegalArgumentException("No tile at 'from' location");
-    return getScore(movingTile, toX, toY);
+  void addPossibleMoves(
+      Team movingTeam, int fromX, int fromY, TurnList moves)
+  {
+    addPossibleMoves(movingTeam, fromX, fromY, true, moves);
+    addPossibleMoves(movingTeam, fromX, fromY, false, moves);
   }
-  
+
   /**
    * Returns the point value of the given tile moving to the given coordinates.
    * Assumes such a move is legal (including moving off-board in endgame).
@@ -606,21 +1086,23 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
       throw new IllegalArgumentException("Moving tile can't be null");
     
     // Check if moving off-board
-    try {
-      Tile capturedTile = tiles[toX][toY];
-      // Moving on-board
-      if (capturedTile == null)
-        return 0;
-      return capturedTile.getValue(); 
-    }
-    catch (ArrayIndexOutOfBoundsException e) {
+    if (!isOnBoard(toX, toY)) {
       // Off-board -> the moving tile is being rescued in the end-game
       return movingTile.getValue();
     }
+    // Moving on-board
+    Tile capturedTile = tiles[toX][toY];
+    if (capturedTile == null)
+      return 0;
+    return capturedTile.getValue(); 
   }
   
   /**
-   * Returns the moves that the given tile can legally make, in one axis.
+   * Adds the moves that the given tile can legally make, in one axis. Rather
+   * than validating every square on that axis (which mostly fails, and
+   * failing means throwing an exception), this walks outwards from the tile
+   * in each direction until it meets another tile or the edge of the board.
+   * The moves are added in increasing order of destination, as before.
    * 
    * @see BoardImpl#getPossibleMoves(Team, Tile, int, int)
    * @param movingTeam the team moving the tile, either Team.HUMANS or
@@ -628,57 +1110,155 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * @param fromX zero-indexed, from 0 to maxIndex
    * @param fromY zero-indexed, from 0 to maxIndex
    * @param xAxis if false, checks in the Y-axis
-   * @return a non-null Collection of Move objects
+   * @param moves the list to which to add the moves
    */
-  private Collection<Move> getPossibleMoves(Team movingTeam, int fromX,
-      int fromY, boolean xAxis)
+  private void addPossibleMoves(Team movingTeam, int fromX, int fromY,
+      boolean xAxis, TurnList moves)
   {
-    // Create a collection to hold the moves
-    Collection<Move> moves = new ArrayList<Move>();
+    Tile movingTile = tiles[fromX][fromY];
+    if (!isMovableBy(movingTeam, movingTile))
+      return;
+
+    // Find how far the tile can go each way along this axis; N.B. this
+    // includes moving off the board
+    int highDirection = xAxis ? 0 : 1;
+    int square = rays.getSquare(fromX, fromY);
+    int first = -getReach(movingTile, square, highDirection + 2);
+    int last = getReach(movingTile, square, highDirection);
+    int stepX = Rays.STEP_X[highDirection];
+    int stepY = Rays.STEP_Y[highDirection];
+
+    // Any move of the team's own tile mustn't reverse their last such move
+    Move previousMove = null;
+    if (movingTeam.equals(movingTile.getTeam()))
+      previousMove = getJustMovedOwnTile(movingTeam);
     
-    // Get the moves in the given axis; N.B. we also check for
-    // moving off the board
-    if (xAxis) {
-      // x-axis
-      for (int toX = -1; toX <= maxIndex + 1; toX++) {
-        try {
-          validateMove(movingTeam, fromX, fromY, toX, fromY);
-          // The move is valid - build it and add it to the List
-          int score = getScore(fromX, fromY, toX, fromY);
-          boolean isRescue = toX < 0 || toX > maxIndex;
-          if (isRescue) {
-            moves.add(new Rescue(movingTeam, fromX, fromY, toX, fromY, score));
-          }
-          else {
-            moves.add(new Move(movingTeam, fromX, fromY, toX, fromY, score));
-          }
-        }
-        catch (IllegalMoveException ex) {
-          // No problem - just don't add this move to the list
-        }
+    for (int distance = first; distance <= last; distance++) {
+      if (distance == 0)
+        continue;
+      int toX = fromX + distance * stepX;
+      int toY = fromY + distance * stepY;
+      if (isReversal(previousMove, fromX, fromY, toX, toY))
+        continue;
+      // The move is valid - add it to the list
+      int score = getScore(movingTile, toX, toY);
+      if (isOnBoard(toX, toY))
+        moves.add(PackedTurn.move(movingTeam, fromX, fromY, toX, toY, score));
+      else
+        moves.add(PackedTurn.rescue(movingTeam, fromX, fromY, toX, toY, score));
+    }
+  }
+
+  /**
+   * Reports whether the given team can legally move the tile on the given
+   * square. This stops at the first direction the tile can go, rather than
+   * building the list of its moves only to see whether it's empty.
+   * 
+   * @param movingTeam the team moving the tile, either Team.HUMANS or
+   *   Team.PREDATORS
+   * @param fromX zero-indexed, from 0 to maxIndex
+   * @param fromY zero-indexed, from 0 to maxIndex
+   * @return false if there's no tile there
+   */
+  boolean hasPossibleMove(Team movingTeam, int fromX, int fromY) {
+    Tile movingTile = tiles[fromX][fromY];
+    if (!isMovableBy(movingTeam, movingTile))
+      return false;
+    Move previousMove = null;
+    if (movingTeam.equals(movingTile.getTeam()))
+      previousMove = getJustMovedOwnTile(movingTeam);
+    int square = rays.getSquare(fromX, fromY);
+    for (int direction = 0; direction < Rays.DIRECTIONS; direction++) {
+      int reach = getReach(movingTile, square, direction);
+      if (reach > 1 || (reach == 1 && !isReversal(previousMove, fromX, fromY,
+          fromX + Rays.STEP_X[direction], fromY + Rays.STEP_Y[direction])))
+      {
+        return true;
       }
     }
-    else {
-      // y-axis
-      for (int toY = -1; toY <= maxIndex + 1; toY++) {
-        try {
-          validateMove(movingTeam, fromX, fromY, fromX, toY);
-          int score = getScore(fromX, fromY, fromX, toY);
-          boolean isRescue = toY < 0 || toY > maxIndex;
-          if (isRescue)
-            moves.add(new Rescue(movingTeam, fromX, fromY, fromX, toY, score));
-          else
-            moves.add(new Move(movingTeam, fromX, fromY, fromX, toY, score));
-        }
-        catch (IllegalMoveException ex) {
-          // No problem - just don't add this move to the list
+    return false;
+  }
+
+  /**
+   * Reports whether moving between the given squares would reverse the given
+   * move, which teams may not do with their own tiles
+   * 
+   * @param previousMove can be <code>null</code>
+   * @param fromX the x-coordinate being moved from
+   * @param fromY the y-coordinate being moved from
+   * @param toX the x-coordinate being moved to
+   * @param toY the y-coordinate being moved to
+   * @return false if there's no previous move
+   */
+  static boolean isReversal(
+      Move previousMove, int fromX, int fromY, int toX, int toY)
+  {
+    return previousMove != null
+      && fromX == previousMove.getToX() && fromY == previousMove.getToY()
+      && toX == previousMove.getFromX() && toY == previousMove.getFromY();
+  }
+
+  /**
+   * Reports whether the given team may move the given tile at all this turn,
+   * i.e. whether it's face-up, mobile, not the other team's, and not a
+   * neutral tile that was just flipped.
+   * 
+   * @param movingTeam the team moving the tile, either Team.HUMANS or
+   *   Team.PREDATORS
+   * @param tile can be <code>null</code>
+   * @return false if the given tile is <code>null</code>
+   */
+  private boolean isMovableBy(Team movingTeam, Tile tile) {
+    if (Team.NEUTRAL.equals(movingTeam)) {
+      throw new IllegalArgumentException("Moving team can't be neutral.");
+    }
+    if (tile == null || !tile.isFaceUp() || tile.getKind().getRange() <= 0)
+      return false;
+    Team tileTeam = tile.getTeam();
+    if (!Team.NEUTRAL.equals(tileTeam) && !movingTeam.equals(tileTeam))
+      return false;
+    return tile != justFlippedNeutralTile;
+  }
+
+  /**
+   * Returns how many squares the given tile can legally move from the given
+   * square in the given direction. This counts empty squares up to the tile's
+   * range, plus the square of the first tile in the way if the moving tile
+   * can capture it, or the square just off the edge if the moving tile can be
+   * rescued through it. The squares are walked along the precomputed ray,
+   * so the edge of the board needn't be checked for at each step.
+   * 
+   * @param movingTile can't be <code>null</code>
+   * @param square the index of the tile's square, as per {@link Rays}
+   * @param direction index into Rays.STEP_X/STEP_Y
+   * @return zero or more
+   */
+  private int getReach(Tile movingTile, int square, int direction) {
+    TileKind kind = movingTile.getKind();
+    int range = kind.getRange();
+    int[] ray = rays.getRay(square, direction);
+    int limit = Math.min(range, ray.length);
+    for (int i = 0; i < limit; i++) {
+      Tile tile = tiles[rays.getX(ray[i])][rays.getY(ray[i])];
+      if (tile != null) {
+        // Blocked - but the blocking tile might be prey
+        if (tile.isFaceUp() && kind.canCapture(tile.getKind(),
+            Rays.STEP_X[direction], Rays.STEP_Y[direction]))
+        {
+          return i + 1;
         }
+        return i;
       }
     }
-    
-    return moves;
+    // Off the edge - a rescue, if it's through an exit in the end-game
+    if (range > ray.length && allTilesFaceUp && rays.isExit(square, direction)
+        && !Team.NEUTRAL.equals(kind.getTeam()))
+    {
+      return ray.length + 1;
+    }
+    return limit;
   }
-  
+
   /* (non-Javadoc)
    * @see tallyho.model.Board#moveTile(tallyho.model.player.Player, java.awt.geom.Point2D, java.awt.geom.Point2D)
    */
@@ -708,10 +1288,10 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    
     // Move the moving tile
     removeTile(fromX, fromY);
-    try {
-      tiles[toX][toY] = movingTile;
+    if (isOnBoard(toX, toY)) {
+      setTile(toX, toY, movingTile);
     }
-    catch (ArrayIndexOutOfBoundsException e) {
+    else {
       // Tile is being moved off board, i.e. rescued
       score = movingTile.getValue();
       movingPlayer.addToScore(score);
@@ -719,7 +1299,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     }
     
     // Remember that the previous move didn't flip a neutral tile
-    justFlippedNeutralTile = null;
+    clearJustFlippedNeutralTile();
     
     // Remember whether either player moved one of their own tiles
     setPreviouslyMovedOwnTile(
@@ -747,13 +1327,13 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
       for (int x = 0; x <= maxIndex; x++) {
         if (x == centre && y == centre) {
           // Clear this square
-          tiles[x][y] = null;
+          setTile(x, y, null);
         }
         else {
           // Not the centre square
           if (iter.hasNext()) {
             // There is a tile to place - place it
-            tiles[x][y] = (Tile) iter.next();
+            setTile(x, y, (Tile) iter.next());
           }
         }
       }
@@ -764,6 +1344,8 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     justFlippedNeutralTile = null;
     justMovedHuman = null;
     justMovedPredator = null;
+    justFlippedKey = 0;
+    hash = computeHash();
   }
 
   /**
@@ -780,14 +1362,14 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     for (int i = 0; i < LUMBERJACKS; i++)
       shuffledTiles.add(new Lumberjack());
     for (int i = 0; i < HUNTERS; i++)
-      shuffledTiles.add(new Hunter());
+      shuffledTiles.add(new Hunter(random));
     for (int i = 0; i < PHEASANTS; i++)
       shuffledTiles.add(new Pheasant());
     for (int i = 0; i < DUCKS; i++)
       shuffledTiles.add(new Duck());
     for (int i = 0; i < TREES; i++)
       shuffledTiles.add(new Tree());
-    Collections.shuffle(shuffledTiles);
+    Collections.shuffle(shuffledTiles, random);
     return shuffledTiles;
   }
   
@@ -811,18 +1393,20 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     switch (movingTeam) {
       case HUMANS:
         if (Team.HUMANS.equals(movingTile.getTeam())) {
-          justMovedHuman = new Move(movingTeam, fromX, fromY, toX, toY, 0);
+          setJustMovedOwnTile(
+              movingTeam, new Move(movingTeam, fromX, fromY, toX, toY, 0));
         }
         else {
-          justMovedHuman = null;
+          clearJustMovedOwnTile(movingTeam);
         }
         break;
       case PREDATORS:
         if (Team.PREDATORS.equals(movingTile.getTeam())) {
-          justMovedPredator = new Move(movingTeam, fromX, fromY, toX, toY, 0);
+          setJustMovedOwnTile(
+              movingTeam, new Move(movingTeam, fromX, fromY, toX, toY, 0));
         }
         else {
-          justMovedPredator = null;
+          clearJustMovedOwnTile(movingTeam);
         }
         break;
       default:
@@ -1059,14 +1643,15 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     if (distance == 0)
       distance = Math.abs(fromY - toY);
     Tile movingTile = getTile(fromX, fromY);
-    if (distance > movingTile.getRange()) {
+    int range = movingTile.getKind().getRange();
+    if (distance > range) {
       StringBuffer errorMessage = new StringBuffer("Can't move a ");
       errorMessage.append(movingTile.getName());
       errorMessage.append(" ");
       errorMessage.append(distance);
       errorMessage.append(" ");
       errorMessage.append(" spaces; maximum range is ");
-      errorMessage.append(movingTile.getRange());
+      errorMessage.append(range);
       errorMessage.append(".");
       throw new IllegalMoveException(errorMessage.toString());
     }
@@ -1131,15 +1716,25 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
    * @return the removed Tile - null if there wasn't one or the location was off-board
    */
   private Tile removeTile(int xPos, int yPos) {
-    try {
-      Tile removedTile = tiles[xPos][yPos];
-      tiles[xPos][yPos] = null;
-      return removedTile;
-    }
-    catch (ArrayIndexOutOfBoundsException e) {
+    if (!isOnBoard(xPos, yPos)) {
       // Coords were off-board
       return null;
     }
+    Tile removedTile = tiles[xPos][yPos];
+    if (removedTile != null)
+      setTile(xPos, yPos, null);
+    return removedTile;
+  }
+  
+  /**
+   * Reports whether the given coordinates are on the board
+   * 
+   * @param xPos zero-indexed
+   * @param yPos zero-indexed
+   * @return see above
+   */
+  boolean isOnBoard(int xPos, int yPos) {
+    return xPos >= 0 && yPos >= 0 && xPos <= maxIndex && yPos <= maxIndex;
   }
   
   /* (non-Javadoc)
@@ -1180,13 +1775,7 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
   public boolean isMovementPossible(Team team, Point2D from) {
     int fromX = (int) from.getX();
     int fromY = (int) from.getY();
-    Tile tile = getTile(fromX, fromY);
-    // We check these conditions from quickest to slowest
-    return
-      tile != null
-      && tile != justFlippedNeutralTile
-      && (team.equals(tile.getTeam()) || Team.NEUTRAL.equals(tile.getTeam()))
-      && !getPossibleMoves(team, tile, fromX, fromY).isEmpty();
+    return isOnBoard(fromX, fromY) && hasPossibleMove(team, fromX, fromY);
   }
   
   /**
@@ -1197,32 +1786,30 @@ public class BoardImpl extends Observable implements Board, tallyho.model.Observ
     // Perform any cloning done by the superclass
     BoardImpl clone = (BoardImpl) super.clone();
     
-    // Clone the array of tiles
+    // Clone the array of tiles, and the tallies of their values
+    clone.faceUpValues = faceUpValues.clone();
+    clone.faceDownValues = faceDownValues.clone();
+    clone.faceDownKinds = faceDownKinds.clone();
     clone.tiles = new Tile[maxIndex + 1][maxIndex + 1];
     for (int y = 0; y < tiles.length; y++) {
       for (int x = 0; x < tiles.length; x++) {
         AbstractTile originalTile = (AbstractTile) tiles[x][y];
-        if (originalTile != null)
+        if (originalTile != null) {
           clone.tiles[x][y] = (Tile) originalTile.clone();
+          if (originalTile == justFlippedNeutralTile) {
+            // The clone's just-flipped tile must be its own copy, otherwise
+            // that tile could be moved on the clone
+            clone.justFlippedNeutralTile = clone.tiles[x][y];
+          }
+        }
       }
     }
     
-    // N.B. because Observable.clone() is poorly implemented, the clone gets
-    // the same observers as the original. The observers therefore need to be
-    // careful to check which instance is notifying them of a change. See
-    // http://www.adtmag.com/java/articleold.asp?id=223 for more info.
-    clone.isClone = true;
+    // The listeners are watching the original, e.g. to show it in the UI, so
+    // aren't told of turns had on the clone (e.g. by a search)
+    clone.listeners = NO_LISTENERS;
     
     // Return the clone
     return clone;
   }
-  
-  /**
-   * Reports whether this board is a clone - only necessary for unit testing
-   * 
-   * @return Returns the isClone.
-   */
-  boolean isClone() {
-    return isClone;
-  }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+/**
+ * Listens for turns being had on a Board, e.g. to update a view of it. Only
+ * turns had in the game are reported; turns applied by a search (and any
+ * change to a copy of the board) aren't.
+ *
+ * @see Board#addBoardListener(BoardListener)
+ */
+public interface BoardListener {
+
+  /**
+   * Called after a turn has been had on the board
+   *
+   * @param event describes the turn; never <code>null</code>
+   */
+  void boardChanged(BoardEvent event);
+}
@@ -4,17 +4,15 @@
 package tallyho.model;
 
 import java.util.Observable;
-import java.util.Observer;
+import java.util.Random;
 
 import tallyho.model.player.Player;
 import tallyho.model.player.RealPlayer;
-import tallyho.model.turn.Flip;
-import tallyho.model.turn.Move;
 
 /**
  * Represents a single game (two rounds) of Tally Ho 
  */
-public class Game extends Observable implements Observer {
+public class Game extends Observable implements BoardListener {
 
   // Constants
   /**
@@ -52,6 +50,7 @@ public class Game extends Observable implements Observer {
     VERSION = "0.1";
 
   // Properties
+  private final Random random;
   private final BoardImpl board;
   private final Player[] players;
   private int activePlayerIndex; // index to "players" array
@@ -66,11 +65,28 @@ public class Game extends Observable implements Observer {
    * @param playerTwo
    */
   public Game(Player playerOne, Player playerTwo) {
+    this(playerOne, playerTwo, new Random());
+  }
+
+  /**
+   * Constructor - sets the game up with a default size board,
+   * ready to start round one, making all its random choices (e.g.
+   * shuffling the tiles) from the given source
+   * 
+   * @param playerOne
+   * @param playerTwo
+   * @param random can't be <code>null</code>; seed it to make the game
+   *   repeatable
+   */
+  public Game(Player playerOne, Player playerTwo, Random random) {
+    if (random == null)
+      throw new IllegalArgumentException("Random can't be null");
+    this.random = random;
     players = new Player[PLAYERS];
     players[0] = playerOne;
     players[1] = playerTwo;
     board = new BoardImpl(this);
-    board.addObserver(this);
+    board.addBoardListener(this);
     prepareRound(1);
   }
 
@@ -153,6 +169,15 @@ public class Game extends Observable implements Observer {
     return board;
   }
   
+  /**
+   * Returns the source of this game's random choices
+   * 
+   * @return a non-null Random
+   */
+  public Random getRandom() {
+    return random;
+  }
+  
   /**
    * Returns the Player of the given number
    * 
@@ -294,12 +319,10 @@ public class Game extends Observable implements Observer {
   }
 
   /**
-   * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+   * @see tallyho.model.BoardListener#boardChanged(tallyho.model.BoardEvent)
    */
-  public void update(Observable observable, Object change) {
-    if (observable instanceof Board &&
-        (change instanceof Flip || change instanceof Move))
-    {
+  public void boardChanged(BoardEvent event) {
+    if (event.isFlip() || event.isMove()) {
       // A move or flip happened
       handleBoardChange();
     }
@@ -0,0 +1,163 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+/**
+ * The straight lines ("rays") that a tile can travel along from each square
+ * of a board of a given size, worked out once per size rather than step by
+ * step for every move generated. Each ray lists the squares from the one next
+ * to its start out to the edge of the board, nearest first, so a tile's reach
+ * is how far along it gets before its range runs out or it meets a tile. Each
+ * ray also records whether going off its end is through an exit, i.e. along
+ * one of the centre axes.
+ * <p>
+ * Square <code>(x, y)</code> is index <code>y * size + x</code>, as in
+ * {@link BitBoard}. The tables never change once built, so boards of the same
+ * size (and their clones) all share them.
+ */
+final class Rays {
+
+  // Constants
+  /**
+   * The four directions of travel, in the order of Directional.DIRECTIONS
+   */
+  static final int[]
+    STEP_X = {1, 0, -1, 0},
+    STEP_Y = {0, 1, 0, -1};
+
+  /**
+   * The number of directions of travel
+   */
+  static final int DIRECTIONS = STEP_X.length;
+
+  private static final Rays[] BY_SIZE = new Rays[Board.MAX_SIZE + 1];
+
+  // Properties
+  private final int size;
+  private final int[] xs;         // [square]
+  private final int[] ys;         // [square]
+  private final int[][] rays;     // [square * DIRECTIONS + direction]
+  private final boolean[] exits;  // [square * DIRECTIONS + direction]
+
+  /**
+   * Returns the rays for boards of the given size, building them the first
+   * time they're asked for
+   *
+   * @param size must be odd, positive, and no more than Board.MAX_SIZE
+   * @return a non-<code>null</code> instance
+   */
+  static synchronized Rays forSize(int size) {
+    // Check input
+    if (size <= 0 || size % 2 == 0 || size > Board.MAX_SIZE)
+      throw new IllegalArgumentException("Invalid board size: " + size);
+
+    if (BY_SIZE[size] == null)
+      BY_SIZE[size] = new Rays(size);
+    return BY_SIZE[size];
+  }
+
+  /**
+   * Constructor
+   *
+   * @param size the size of the board
+   */
+  private Rays(int size) {
+    this.size = size;
+    int squares = size * size;
+    int centre = (size - 1) / 2;
+    xs = new int[squares];
+    ys = new int[squares];
+    rays = new int[squares * DIRECTIONS][];
+    exits = new boolean[squares * DIRECTIONS];
+    for (int square = 0; square < squares; square++) {
+      int x = square % size;
+      int y = square / size;
+      xs[square] = x;
+      ys[square] = y;
+      for (int direction = 0; direction < DIRECTIONS; direction++) {
+        int stepX = STEP_X[direction];
+        int stepY = STEP_Y[direction];
+        // Count the squares to the edge, then list them
+        int length = 0;
+        while (isOnBoard(x + (length + 1) * stepX, y + (length + 1) * stepY))
+          length++;
+        int[] ray = new int[length];
+        for (int i = 0; i < length; i++) {
+          ray[i] = (y + (i + 1) * stepY) * size + x + (i + 1) * stepX;
+        }
+        rays[square * DIRECTIONS + direction] = ray;
+        // Travelling along x, the exit is on the centre row, and vice versa
+        exits[square * DIRECTIONS + direction] =
+          (stepX == 0) ? x == centre : y == centre;
+      }
+    }
+  }
+
+  /**
+   * Reports whether the given coordinates are on the board
+   *
+   * @param xPos any value
+   * @param yPos any value
+   * @return see above
+   */
+  private boolean isOnBoard(int xPos, int yPos) {
+    return xPos >= 0 && xPos < size && yPos >= 0 && yPos < size;
+  }
+
+  /**
+   * Returns the index of the given square
+   *
+   * @param xPos zero-indexed, assumed to be on the board
+   * @param yPos zero-indexed, assumed to be on the board
+   * @return see above
+   */
+  int getSquare(int xPos, int yPos) {
+    return yPos * size + xPos;
+  }
+
+  /**
+   * Returns the x-coordinate of the given square
+   *
+   * @param square the index of a square on the board
+   * @return zero-indexed
+   */
+  int getX(int square) {
+    return xs[square];
+  }
+
+  /**
+   * Returns the y-coordinate of the given square
+   *
+   * @param square the index of a square on the board
+   * @return zero-indexed
+   */
+  int getY(int square) {
+    return ys[square];
+  }
+
+  /**
+   * Returns the squares from the given square to the edge of the board in
+   * the given direction, nearest first. The array is shared, so mustn't be
+   * changed.
+   *
+   * @param square the index of the starting square, which isn't included
+   * @param direction index into STEP_X/STEP_Y
+   * @return an empty array if the square is on that edge
+   */
+  int[] getRay(int square, int direction) {
+    return rays[square * DIRECTIONS + direction];
+  }
+
+  /**
+   * Reports whether a tile travelling from the given square in the given
+   * direction would leave the board through an exit, if nothing stopped it
+   *
+   * @param square the index of the starting square
+   * @param direction index into STEP_X/STEP_Y
+   * @return see above
+   */
+  boolean isExit(int square, int direction) {
+    return exits[square * DIRECTIONS + direction];
+  }
+}
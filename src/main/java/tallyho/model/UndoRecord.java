@@ -0,0 +1,227 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import tallyho.model.tile.Tile;
+import tallyho.model.turn.Move;
+import tallyho.model.turn.PackedTurn;
+import tallyho.model.turn.Turn;
+
+/**
+ * Remembers what a turn applied to a board changed, so that the board can be
+ * put back exactly as it was.
+ *
+ * @see Board#apply(Turn)
+ * @see Board#apply(int)
+ * @see Board#undo(UndoRecord)
+ */
+public final class UndoRecord {
+
+  // Properties
+  private final Board board;
+  private final int packedTurn;
+  private Turn turn;
+  private final Tile justFlippedNeutralTile;
+  private final Move justMovedHuman;
+  private final Move justMovedPredator;
+  private final boolean allTilesFaceUp;
+  private final long hash;
+  private final long justFlippedKey;
+  private Tile movedTile;
+  private Tile capturedTile;
+  private int score;
+  private Tile flippedTile;
+  private int swappedSquare = -1;
+  private Tile replacedHunter;
+
+  /**
+   * Constructor
+   *
+   * @param board the board to which the turn is being applied
+   * @param packedTurn the turn being applied, encoded as per PackedTurn
+   * @param turn the turn being applied, or <code>null</code> if it was only
+   *   given in encoded form
+   * @param justFlippedNeutralTile the board's just-flipped neutral tile
+   *   before the turn
+   * @param justMovedHuman the humans' last move of their own tile before the
+   *   turn
+   * @param justMovedPredator the predators' last move of their own tile
+   *   before the turn
+   * @param allTilesFaceUp whether all tiles were face-up before the turn
+   * @param hash the board's hash before the turn
+   * @param justFlippedKey the part of the hash for the just-flipped neutral
+   *   tile before the turn
+   */
+  UndoRecord(Board board, int packedTurn, Turn turn,
+      Tile justFlippedNeutralTile,
+      Move justMovedHuman, Move justMovedPredator, boolean allTilesFaceUp,
+      long hash, long justFlippedKey)
+  {
+    this.board = board;
+    this.packedTurn = packedTurn;
+    this.turn = turn;
+    this.justFlippedNeutralTile = justFlippedNeutralTile;
+    this.justMovedHuman = justMovedHuman;
+    this.justMovedPredator = justMovedPredator;
+    this.allTilesFaceUp = allTilesFaceUp;
+    this.hash = hash;
+    this.justFlippedKey = justFlippedKey;
+  }
+
+  /**
+   * Records the tiles moved and captured by a Move
+   *
+   * @param movedTile the tile that moved
+   * @param capturedTile the tile it captured, if any
+   * @param score the points scored by the move
+   */
+  void setMovedTiles(Tile movedTile, Tile capturedTile, int score) {
+    this.movedTile = movedTile;
+    this.capturedTile = capturedTile;
+    this.score = score;
+  }
+
+  /**
+   * Records the tile turned face-up by a Flip
+   *
+   * @param flippedTile can't be <code>null</code>
+   */
+  void setFlippedTile(Tile flippedTile) {
+    this.flippedTile = flippedTile;
+  }
+
+  /**
+   * Records that a Flip supposed a different hidden tile was on the flipped
+   * square, so the tile there was first swapped with that one
+   *
+   * @param swappedSquare where the supposed tile was, as y * size + x
+   */
+  void setSwappedSquare(int swappedSquare) {
+    this.swappedSquare = swappedSquare;
+  }
+
+  /**
+   * Records that a Flip supposed the Hunter it revealed faced a different way
+   * from the way it did, so another Hunter was put in its place
+   *
+   * @param replacedHunter the Hunter that was on the flipped square
+   */
+  void setReplacedHunter(Tile replacedHunter) {
+    this.replacedHunter = replacedHunter;
+  }
+
+  /**
+   * Returns the board to which the turn was applied
+   *
+   * @return a non-<code>null</code> Board
+   */
+  Board getBoard() {
+    return board;
+  }
+
+  /**
+   * Returns the turn that was applied
+   *
+   * @return a non-<code>null</code> Turn
+   */
+  public Turn getTurn() {
+    if (turn == null) {
+      // Only given in encoded form - make it now
+      turn = PackedTurn.toTurn(packedTurn, flippedTile);
+    }
+    return turn;
+  }
+
+  /**
+   * Returns the turn that was applied, encoded as per PackedTurn
+   *
+   * @return see above
+   */
+  int getPackedTurn() {
+    return packedTurn;
+  }
+
+  /**
+   * Returns the points scored by the turn that was applied, i.e. the value of
+   * any tile captured or rescued
+   *
+   * @return zero or more
+   */
+  public int getScore() {
+    return score;
+  }
+
+  /**
+   * @return the just-flipped neutral tile before the turn
+   */
+  Tile getJustFlippedNeutralTile() {
+    return justFlippedNeutralTile;
+  }
+
+  /**
+   * @return the humans' last move of their own tile before the turn
+   */
+  Move getJustMovedHuman() {
+    return justMovedHuman;
+  }
+
+  /**
+   * @return the predators' last move of their own tile before the turn
+   */
+  Move getJustMovedPredator() {
+    return justMovedPredator;
+  }
+
+  /**
+   * @return whether all tiles were face-up before the turn
+   */
+  boolean wereAllTilesFaceUp() {
+    return allTilesFaceUp;
+  }
+
+  /**
+   * @return the board's hash before the turn
+   */
+  long getHash() {
+    return hash;
+  }
+
+  /**
+   * @return the part of the hash for the just-flipped neutral tile before the
+   *   turn
+   */
+  long getJustFlippedKey() {
+    return justFlippedKey;
+  }
+
+  /**
+   * @return the tile moved by the turn, if it was a Move
+   */
+  Tile getMovedTile() {
+    return movedTile;
+  }
+
+  /**
+   * @return the tile captured by the turn, if any
+   */
+  Tile getCapturedTile() {
+    return capturedTile;
+  }
+
+  /**
+   * @return where the tile supposed by a Flip was before being swapped onto
+   *   the flipped square, as y * size + x; -1 if it wasn't
+   */
+  int getSwappedSquare() {
+    return swappedSquare;
+  }
+
+  /**
+   * @return the Hunter that a Flip replaced with one facing the supposed way;
+   *   <code>null</code> if it didn't
+   */
+  Tile getReplacedHunter() {
+    return replacedHunter;
+  }
+}
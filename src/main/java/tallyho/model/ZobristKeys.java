@@ -0,0 +1,136 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import java.util.Random;
+
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
+import tallyho.model.turn.Move;
+
+/**
+ * The random numbers that are XORed together to make a board's Zobrist hash.
+ * Each thing that can be true of a position (a given kind of tile, facing a
+ * given way, face-up on a given square; a face-down tile on a given square; a
+ * given tile having just been flipped; and so on) has its own key, so a board
+ * can keep its hash up to date by XORing keys in and out as things change.
+ * Face-down tiles all have the same key on a given square, whatever they are,
+ * so that the hash only depends on what the players can see.
+ * <p>
+ * The keys come from a fixed seed, so hashes are the same from one run to the
+ * next and can be saved (e.g. in an opening book).
+ */
+final class ZobristKeys {
+
+  // Constants
+  private static final long SEED = 0x7A11F0L;
+  // -- kinds of tile, a Hunter's direction being part of its kind
+  private static final int FACES = TileKind.values().length;
+  // -- squares including those just off the board, for rescues
+  private static final int EDGED_SIZE = Board.MAX_SIZE + 2;
+
+  /**
+   * XORed into the hash by every turn, so that the same tiles with a
+   * different team to move hash differently
+   */
+  static final long SIDE_TO_MOVE;
+
+  // -- face-down tiles use TILES[0][0], whatever their face
+  private static final long[][][] TILES;          // [face][face-up][square]
+  private static final long[] JUST_FLIPPED;       // [square]
+  private static final long[][] JUST_MOVED_FROM;  // [team][square]
+  private static final long[][] JUST_MOVED_TO;    // [team][edged square]
+
+  static {
+    Random random = new Random(SEED);
+    SIDE_TO_MOVE = random.nextLong();
+    TILES = new long[FACES][2][Board.MAX_SIZE * Board.MAX_SIZE];
+    for (int face = 0; face < FACES; face++) {
+      fill(random, TILES[face][0]);
+      fill(random, TILES[face][1]);
+    }
+    JUST_FLIPPED = new long[Board.MAX_SIZE * Board.MAX_SIZE];
+    fill(random, JUST_FLIPPED);
+    JUST_MOVED_FROM = new long[Team.values().length][EDGED_SIZE * EDGED_SIZE];
+    JUST_MOVED_TO = new long[Team.values().length][EDGED_SIZE * EDGED_SIZE];
+    for (int team = 0; team < Team.values().length; team++) {
+      fill(random, JUST_MOVED_FROM[team]);
+      fill(random, JUST_MOVED_TO[team]);
+    }
+  }
+
+  /**
+   * Constructor - not for instantiation
+   */
+  private ZobristKeys() {
+    // Empty
+  }
+
+  /**
+   * Fills the given array with random numbers
+   *
+   * @param random the source of the numbers
+   * @param keys the array to fill
+   */
+  private static void fill(Random random, long[] keys) {
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = random.nextLong();
+    }
+  }
+
+  /**
+   * Returns the key for the given tile, in its current face-up state, being
+   * on the given square. A face-down tile's key doesn't depend on what it is.
+   *
+   * @param tile can't be <code>null</code>
+   * @param xPos zero-indexed, on the board
+   * @param yPos zero-indexed, on the board
+   * @return see above
+   */
+  static long getTileKey(Tile tile, int xPos, int yPos) {
+    int square = xPos * Board.MAX_SIZE + yPos;
+    if (!tile.isFaceUp())
+      return TILES[0][0][square];
+    return TILES[tile.getKind().ordinal()][1][square];
+  }
+
+  /**
+   * Returns the key for the neutral tile on the given square having just been
+   * flipped
+   *
+   * @param xPos zero-indexed, on the board
+   * @param yPos zero-indexed, on the board
+   * @return see above
+   */
+  static long getJustFlippedKey(int xPos, int yPos) {
+    return JUST_FLIPPED[xPos * Board.MAX_SIZE + yPos];
+  }
+
+  /**
+   * Returns the key for the given team having just moved one of their own
+   * tiles as described
+   *
+   * @param team the moving team
+   * @param move the move they made; <code>null</code> if they didn't move one
+   *   of their own tiles
+   * @return zero if the move is <code>null</code>
+   */
+  static long getJustMovedKey(Team team, Move move) {
+    if (move == null)
+      return 0;
+    return JUST_MOVED_FROM[team.ordinal()][getEdgedSquare(move.getFromX(), move.getFromY())]
+      ^ JUST_MOVED_TO[team.ordinal()][getEdgedSquare(move.getToX(), move.getToY())];
+  }
+
+  /**
+   * Returns the index of the given square, which may be just off the board
+   *
+   * @param xPos from -1 to the board's size
+   * @param yPos from -1 to the board's size
+   * @return see above
+   */
+  private static int getEdgedSquare(int xPos, int yPos) {
+    return (xPos + 1) * EDGED_SIZE + yPos + 1;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import tallyho.model.Board;
+import tallyho.model.turn.Turn;
+
+/**
+ * Works out computer players' turns on a thread of its own, so that whoever
+ * asks (e.g. the GUI, when it's told the active player changed) isn't held up
+ * while the AI thinks, and can have the turn applied on its own thread when
+ * it's ready. Each AI thinks about a copy of the board, so the board can
+ * still be looked at (e.g. painted) in the meantime.
+ * <p>
+ * Turns are worked out one at a time, in the order asked for. Cancelling a
+ * turn's future stops the AI if it's still thinking, and discards its turn;
+ * so does the AI running out of time. A look-ahead AI's search is told to
+ * stop, so the next turn needn't wait for it to finish; any other AI is
+ * interrupted. An AI can also be left to ponder while its opponent thinks,
+ * until it's cancelled.
+ */
+public class AIExecutor {
+
+  // Properties
+  private final ExecutorService thinker;
+  private final ScheduledExecutorService timer;
+
+  /**
+   * Constructor
+   */
+  public AIExecutor() {
+    thinker = Executors.newSingleThreadExecutor(new NamedThreadFactory("AI"));
+    timer = Executors.newSingleThreadScheduledExecutor(
+        new NamedThreadFactory("AI deadline"));
+  }
+
+  /**
+   * Starts the given player thinking about their turn on the given board
+   *
+   * @param player can't be <code>null</code>
+   * @param board the position to move from; can't be <code>null</code>; is
+   *   copied before this method returns, so can then change
+   * @param timeLimit the number of milliseconds the player has to think,
+   *   after which the future fails with a TimeoutException; zero for no limit
+   * @return the player's turn (a flip or movement), or <code>null</code> if
+   *   no turn is possible
+   */
+  public CompletableFuture<Turn> getTurn(final ComputerPlayer player,
+      Board board, long timeLimit)
+  {
+    // Check input
+    if (player == null)
+      throw new IllegalArgumentException("Player can't be null");
+    if (board == null)
+      throw new IllegalArgumentException("Board can't be null");
+    if (timeLimit < 0)
+      throw new IllegalArgumentException("Time limit can't be negative");
+
+    final Board boardCopy = copy(board);
+    final AtomicBoolean stopped = new AtomicBoolean();
+    final CompletableFuture<Turn> result = new CompletableFuture<Turn>();
+    final Future<?> thinking = thinker.submit(new Runnable() {
+      public void run() {
+        if (result.isDone())
+          return;   // cancelled before it started
+        try {
+          if (player instanceof LookAheadAI) {
+            LookAheadAI ai = (LookAheadAI) player;
+            result.complete(
+                ai.getTurn(boardCopy, ai.getTimeLimit(), stopped));
+          }
+          else {
+            result.complete(player.getTurn(boardCopy));
+          }
+        }
+        catch (Throwable ex) {
+          result.completeExceptionally(ex);
+        }
+      }
+    });
+    if (timeLimit > 0) {
+      final ScheduledFuture<?> deadline = timer.schedule(new Runnable() {
+        public void run() {
+          result.completeExceptionally(new TimeoutException(
+              player.getType() + " took longer than " + timeLimit + "ms"));
+        }
+      }, timeLimit, TimeUnit.MILLISECONDS);
+      result.whenComplete((turn, ex) -> deadline.cancel(false));
+    }
+    // Stop thinking once nobody wants the turn
+    result.whenComplete((turn, ex) -> {
+      if (ex != null) {
+        stopped.set(true);
+        thinking.cancel(true);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Starts the given AI pondering its next turn, while its opponent chooses
+   * theirs from the given position
+   *
+   * @param ai can't be <code>null</code>
+   * @param board the position with the AI's opponent to move; can't be
+   *   <code>null</code>; is copied before this method returns, so can then
+   *   change
+   * @return completes when the AI stops pondering; cancel it to stop the AI
+   *   pondering, e.g. when its opponent has moved
+   * @see LookAheadAI#ponder(Board, AtomicBoolean)
+   */
+  public CompletableFuture<Void> ponder(final LookAheadAI ai, Board board) {
+    // Check input
+    if (ai == null)
+      throw new IllegalArgumentException("AI can't be null");
+    if (board == null)
+      throw new IllegalArgumentException("Board can't be null");
+
+    final Board boardCopy = copy(board);
+    final AtomicBoolean stopped = new AtomicBoolean();
+    final CompletableFuture<Void> result = new CompletableFuture<Void>();
+    thinker.execute(new Runnable() {
+      public void run() {
+        try {
+          ai.ponder(boardCopy, stopped);
+          result.complete(null);
+        }
+        catch (Throwable ex) {
+          result.completeExceptionally(ex);
+        }
+      }
+    });
+    // The search checks a flag rather than being interrupted
+    result.whenComplete((nothing, ex) -> stopped.set(true));
+    return result;
+  }
+
+  /**
+   * Stops working out turns; any that are still to be worked out are
+   * cancelled
+   */
+  public void shutdown() {
+    thinker.shutdownNow();
+    timer.shutdownNow();
+  }
+
+  /**
+   * Returns a copy of the given board
+   *
+   * @param board the board to copy
+   * @return a new instance
+   */
+  private static Board copy(Board board) {
+    try {
+      return (Board) board.clone();
+    }
+    catch (CloneNotSupportedException ex) {
+      throw new IllegalStateException("Couldn't copy the board", ex);
+    }
+  }
+
+  /**
+   * Makes daemon threads with a given name, so that an AI still thinking
+   * doesn't stop the program from exiting
+   */
+  private static class NamedThreadFactory implements ThreadFactory {
+
+    // Properties
+    private final String name;
+
+    /**
+     * Constructor
+     *
+     * @param name the name to give each thread
+     */
+    NamedThreadFactory(String name) {
+      this.name = name;
+    }
+
+    /* (non-Javadoc)
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     */
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -67,7 +67,7 @@ class AIHelper {
         if (moves != null && !moves.isEmpty()) {
           // Return a random one
           List<Move> list = new ArrayList<Move>(moves);
-          Collections.shuffle(list);
+          Collections.shuffle(list, board.getRandom());
           return list.get(0);
         }
       }
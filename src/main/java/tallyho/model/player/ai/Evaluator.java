@@ -0,0 +1,30 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import tallyho.model.Board;
+import tallyho.model.Team;
+
+/**
+ * Estimates the value of a position where a search stops looking ahead, i.e.
+ * the net points the team about to move can expect to score from there on.
+ * Without one, a search counts only the points scored by the turns it looks
+ * at, so every position at the end of the search is worth nothing more.
+ * <p>
+ * An evaluator is called at every leaf of the search, from as many threads as
+ * the search uses, so should be quick and must be thread-safe.
+ */
+public interface Evaluator {
+
+  /**
+   * Returns the estimated value of the given position to the given team
+   *
+   * @param board the position to evaluate; mustn't be changed
+   * @param mover the team about to move, one of Team.HUMANS or
+   *   Team.PREDATORS
+   * @return the net points the mover can expect to score; the search treats
+   *   anything beyond the total value of the tiles on the board as that total
+   */
+  int evaluate(Board board, Team mover);
+}
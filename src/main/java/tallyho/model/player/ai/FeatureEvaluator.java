@@ -0,0 +1,282 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import tallyho.model.Board;
+import tallyho.model.Team;
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
+import tallyho.model.turn.PackedTurn;
+import tallyho.model.turn.TurnList;
+
+/**
+ * Evaluates a position as a weighted sum of features, each measured as the
+ * mover's share less their opponent's:
+ * <ul>
+ * <li>material: the value of their face-up tiles on the board</li>
+ * <li>face-down tiles: the value of their tiles yet to be revealed, which is
+ *   known from the tiles already revealed, wherever the others are</li>
+ * <li>threats: the most they could score with their next turn</li>
+ * <li>line of fire: the squares each Hunter covers the way it's facing, up to
+ *   and including any tile it could capture there</li>
+ * <li>exits: in the end-game, how close their tiles are to being rescued,
+ *   weighted by the tiles' values</li>
+ * </ul>
+ * The board keeps the tile values up to date as turns are made and taken
+ * back, so the first two features cost nothing to look up; the others are
+ * worked out afresh, but each feature with a weight of zero is skipped.
+ * <p>
+ * Weights are percentages, so e.g. a weight of 50 counts each point of a
+ * feature as half a point. Once set, an instance can be shared between
+ * threads.
+ */
+public class FeatureEvaluator implements Evaluator {
+
+  // Constants
+  /**
+   * The default weight of each feature, as a percentage
+   */
+  public static final int
+    DEFAULT_MATERIAL_WEIGHT = 10,
+    DEFAULT_FACE_DOWN_WEIGHT = 10,
+    DEFAULT_THREAT_WEIGHT = 50,
+    DEFAULT_LINE_OF_FIRE_WEIGHT = 20,
+    DEFAULT_EXIT_WEIGHT = 50;
+
+  // -- The step for each way a Hunter can face, indexed by direction - 1
+  private static final int[]
+    STEP_X = {1, 0, -1, 0},
+    STEP_Y = {0, 1, 0, -1};
+
+  // -- The list of turns each thread generates threats into
+  private static final ThreadLocal<TurnList> TURNS =
+    new ThreadLocal<TurnList>() {
+      protected TurnList initialValue() {
+        return new TurnList();
+      }
+    };
+
+  // Properties
+  private int materialWeight = DEFAULT_MATERIAL_WEIGHT;
+  private int faceDownWeight = DEFAULT_FACE_DOWN_WEIGHT;
+  private int threatWeight = DEFAULT_THREAT_WEIGHT;
+  private int lineOfFireWeight = DEFAULT_LINE_OF_FIRE_WEIGHT;
+  private int exitWeight = DEFAULT_EXIT_WEIGHT;
+
+  /*
+   * (non-Javadoc)
+   * @see tallyho.model.player.ai.Evaluator#evaluate(tallyho.model.Board,
+   *   tallyho.model.Team)
+   */
+  public int evaluate(Board board, Team mover) {
+    Team opponent = Team.HUMANS.equals(mover) ? Team.PREDATORS : Team.HUMANS;
+    long total = 0;
+    if (materialWeight != 0) {
+      total += (long) materialWeight * (board.getTileValue(mover, true)
+          - board.getTileValue(opponent, true));
+    }
+    if (faceDownWeight != 0) {
+      total += (long) faceDownWeight * (board.getTileValue(mover, false)
+          - board.getTileValue(opponent, false));
+    }
+    if (threatWeight != 0) {
+      total += (long) threatWeight
+        * (getThreat(board, mover) - getThreat(board, opponent));
+    }
+    if (lineOfFireWeight != 0) {
+      int lineOfFire = getLineOfFire(board);
+      total += (long) lineOfFireWeight
+        * (Team.HUMANS.equals(mover) ? lineOfFire : -lineOfFire);
+    }
+    if (exitWeight != 0 && board.areAllTilesFaceUp()) {
+      total += (long) exitWeight
+        * (getExitCloseness(board, mover) - getExitCloseness(board, opponent));
+    }
+    return (int) (total / 100);
+  }
+
+  /**
+   * Returns the most the given team could score with a turn made now
+   *
+   * @param board the position
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return zero or more
+   */
+  private static int getThreat(Board board, Team team) {
+    TurnList turns = TURNS.get();
+    turns.clear();
+    board.addPossibleTurns(team, turns);
+    int threat = 0;
+    for (int i = 0; i < turns.size(); i++) {
+      threat = Math.max(threat, PackedTurn.getScore(turns.get(i)));
+    }
+    return threat;
+  }
+
+  /**
+   * Returns the number of squares the face-up Hunters cover, i.e. those
+   * they could move to the way they're facing, up to and including the first
+   * tile in the way if they could capture it
+   *
+   * @param board the position
+   * @return zero or more
+   */
+  private static int getLineOfFire(Board board) {
+    int covered = 0;
+    int maxIndex = board.getMaxIndex();
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        Tile hunter = board.getTile(x, y);
+        if (hunter == null || !hunter.isFaceUp()
+            || hunter.getKind().getDirection() == 0)
+        {
+          continue;
+        }
+        TileKind kind = hunter.getKind();
+        int stepX = STEP_X[kind.getDirection() - 1];
+        int stepY = STEP_Y[kind.getDirection() - 1];
+        for (int toX = x + stepX, toY = y + stepY;
+            toX >= 0 && toX <= maxIndex && toY >= 0 && toY <= maxIndex;
+            toX += stepX, toY += stepY)
+        {
+          Tile target = board.getTile(toX, toY);
+          if (target == null) {
+            covered++;
+          }
+          else {
+            if (target.isFaceUp()
+                && kind.canCapture(target.getKind(), stepX, stepY))
+            {
+              covered++;
+            }
+            break;
+          }
+        }
+      }
+    }
+    return covered;
+  }
+
+  /**
+   * Returns how close the given team's tiles are to the exits, each tile's
+   * value being scaled down by the number of squares it has to go, out of
+   * the size of the board
+   *
+   * @param board the position
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return zero or more
+   */
+  private static int getExitCloseness(Board board, Team team) {
+    int maxIndex = board.getMaxIndex();
+    int size = maxIndex + 1;
+    int centre = maxIndex / 2;
+    int closeness = 0;
+    for (int y = 0; y <= maxIndex; y++) {
+      for (int x = 0; x <= maxIndex; x++) {
+        Tile tile = board.getTile(x, y);
+        if (tile == null || !team.equals(tile.getTeam()))
+          continue;
+        // Across to the centre column then off the nearer end, or likewise
+        // via the centre row
+        int viaColumn = Math.abs(x - centre) + Math.min(y, maxIndex - y) + 1;
+        int viaRow = Math.abs(y - centre) + Math.min(x, maxIndex - x) + 1;
+        int distance = Math.min(viaColumn, viaRow);
+        closeness += tile.getValue() * (size - distance);
+      }
+    }
+    return closeness / size;
+  }
+
+  /**
+   * Returns the weight of the value of each team's face-up tiles
+   *
+   * @return a percentage
+   */
+  public int getMaterialWeight() {
+    return materialWeight;
+  }
+
+  /**
+   * Sets the weight of the value of each team's face-up tiles
+   *
+   * @param materialWeight a percentage; zero to ignore this feature
+   */
+  public void setMaterialWeight(int materialWeight) {
+    this.materialWeight = materialWeight;
+  }
+
+  /**
+   * Returns the weight of the value of each team's face-down tiles
+   *
+   * @return a percentage
+   */
+  public int getFaceDownWeight() {
+    return faceDownWeight;
+  }
+
+  /**
+   * Sets the weight of the value of each team's face-down tiles
+   *
+   * @param faceDownWeight a percentage; zero to ignore this feature
+   */
+  public void setFaceDownWeight(int faceDownWeight) {
+    this.faceDownWeight = faceDownWeight;
+  }
+
+  /**
+   * Returns the weight of the most each team could score next
+   *
+   * @return a percentage
+   */
+  public int getThreatWeight() {
+    return threatWeight;
+  }
+
+  /**
+   * Sets the weight of the most each team could score next
+   *
+   * @param threatWeight a percentage; zero to ignore this feature
+   */
+  public void setThreatWeight(int threatWeight) {
+    this.threatWeight = threatWeight;
+  }
+
+  /**
+   * Returns the weight of each square in the Hunters' lines of fire
+   *
+   * @return a percentage
+   */
+  public int getLineOfFireWeight() {
+    return lineOfFireWeight;
+  }
+
+  /**
+   * Sets the weight of each square in the Hunters' lines of fire
+   *
+   * @param lineOfFireWeight a percentage; zero to ignore this feature
+   */
+  public void setLineOfFireWeight(int lineOfFireWeight) {
+    this.lineOfFireWeight = lineOfFireWeight;
+  }
+
+  /**
+   * Returns the weight of how close each team's tiles are to the exits in
+   * the end-game
+   *
+   * @return a percentage
+   */
+  public int getExitWeight() {
+    return exitWeight;
+  }
+
+  /**
+   * Sets the weight of how close each team's tiles are to the exits in the
+   * end-game
+   *
+   * @param exitWeight a percentage; zero to ignore this feature
+   */
+  public void setExitWeight(int exitWeight) {
+    this.exitWeight = exitWeight;
+  }
+}
@@ -3,25 +3,56 @@
  */
 package tallyho.model.player.ai;
 
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import tallyho.model.Board;
+import tallyho.model.Team;
+import tallyho.model.UndoRecord;
 import tallyho.model.player.AbstractPlayer;
 import tallyho.model.turn.Turn;
+import tallyho.model.turn.TurnList;
 
 /**
- * An AI that looks ahead a given number of moves
+ * An AI that looks ahead a given number of moves. It can also ponder, i.e.
+ * look ahead from its opponent's likely turns while the opponent chooses
+ * one, so that the positions it would then search are already in its table.
+ * Given an opening book, while every tile is face-down, it makes the flip the
+ * book says is best rather than searching.
  */
 public class LookAheadAI extends AbstractPlayer implements ComputerPlayer {
 
   // Constants
   private static final int DEFAULT_LOOK_AHEAD_DEPTH = 2;
+  private static final int DEFAULT_TABLE_MEGABYTES = 16;
   private static final Log LOG = LogFactory.getLog(LookAheadAI.class);
   
   // Properties
   // -- the number of turns after the current one to look ahead
   private final int turnsToLookAhead;
+  // -- the number of kinds of tile to consider revealing with each flip
+  private final int chanceOutcomes;
+  // -- remembers positions already searched, including on previous turns
+  private final TranspositionTable table;
+  // -- milliseconds to spend on each turn, or zero for no limit
+  private long timeLimit;
+  // -- the threads across which to split each search, or null for none
+  private ForkJoinPool pool;
+  // -- the number of threads searching the whole tree at once
+  private int threads = 1;
+  // -- estimates the positions at the end of each search, or null for none
+  private Evaluator evaluator;
+  // -- whether to think during the opponent's turns
+  private boolean pondering = true;
+  // -- whether the table holds what was found pondering, which the next turn
+  // -- searched counts as part of the same search
+  private boolean pondered;
+  // -- the opening flips to make without searching, or null for none
+  private OpeningBook openingBook;
   
   /**
    * Constructor that looks ahead the default number of turns
@@ -37,11 +68,46 @@ public class LookAheadAI extends AbstractPlayer implements ComputerPlayer {
    *   by the other player. Can't be negative.
    */
   public LookAheadAI(int turnsToLookAhead) {
+    this(turnsToLookAhead, MinMaxTreeImpl.DEFAULT_CHANCE_OUTCOMES);
+  }
+  
+  /**
+   * Constructor
+   * 
+   * @param turnsToLookAhead the number of turns to look ahead, including turns
+   *   by the other player. Can't be negative.
+   * @param chanceOutcomes the maximum number of kinds of tile to consider
+   *   revealing with each flip; zero means peek at the actual tile. Can't be
+   *   negative.
+   */
+  public LookAheadAI(int turnsToLookAhead, int chanceOutcomes) {
+    this(turnsToLookAhead, chanceOutcomes, DEFAULT_TABLE_MEGABYTES);
+  }
+  
+  /**
+   * Constructor
+   * 
+   * @param turnsToLookAhead the number of turns to look ahead, including turns
+   *   by the other player. Can't be negative.
+   * @param chanceOutcomes the maximum number of kinds of tile to consider
+   *   revealing with each flip; zero means peek at the actual tile. Can't be
+   *   negative.
+   * @param tableMegabytes the memory to use for remembering positions already
+   *   searched; must be at least one
+   */
+  public LookAheadAI(int turnsToLookAhead, int chanceOutcomes,
+      int tableMegabytes)
+  {
     if (turnsToLookAhead < 0) {
       throw new IllegalArgumentException("Can't look ahead a negative number of turns");
     }
+    if (chanceOutcomes < 0) {
+      throw new IllegalArgumentException("Can't consider a negative number of outcomes");
+    }
     
     this.turnsToLookAhead = turnsToLookAhead;
+    this.chanceOutcomes = chanceOutcomes;
+    this.table = new TranspositionTable(tableMegabytes);
     LOG.info("Constructed look-ahead AI with depth of " + turnsToLookAhead);
   }
 
@@ -52,15 +118,262 @@ public class LookAheadAI extends AbstractPlayer implements ComputerPlayer {
     return "Look-Ahead AI";
   }
   
+  /**
+   * Sets how long this AI may take to choose each turn. If the time runs out
+   * before it has looked ahead the full number of turns, it uses what it found
+   * looking less far ahead.
+   * 
+   * @param timeLimit the number of milliseconds, or zero for no limit
+   */
+  public void setTimeLimit(long timeLimit) {
+    if (timeLimit < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    this.timeLimit = timeLimit;
+  }
+  
+  /**
+   * Returns how long this AI may take to choose each turn
+   * 
+   * @return the number of milliseconds, or zero for no limit
+   */
+  public long getTimeLimit() {
+    return timeLimit;
+  }
+  
+  /**
+   * Sets the pool of threads across which this AI splits the turns it
+   * considers next, e.g. one per core
+   * 
+   * @param pool <code>null</code> to search on the calling thread only
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
+  /**
+   * Returns the pool of threads across which this AI splits its searches
+   * 
+   * @return <code>null</code> if it searches on the calling thread only
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+  
+  /**
+   * Sets the number of threads that search the whole tree at once for each
+   * turn, sharing what they find through this AI's table of positions. Unlike
+   * a pool, this keeps every core busy even when there are few turns to
+   * choose from. The helpers run in this AI's pool, if it has one, which
+   * then needs at least this many threads; otherwise in the common pool.
+   * 
+   * @param threads at least one
+   */
+  public void setThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Must search on at least one thread");
+    }
+    this.threads = threads;
+  }
+  
+  /**
+   * Returns the number of threads that search the whole tree at once
+   * 
+   * @return at least one
+   */
+  public int getThreads() {
+    return threads;
+  }
+  
+  /**
+   * Sets how this AI values the positions it stops looking ahead at, rather
+   * than only counting the points scored getting there. Since this AI
+   * remembers positions from one turn to the next, this should be set before
+   * it first plays.
+   * 
+   * @param evaluator <code>null</code> to only count points scored
+   */
+  public void setEvaluator(Evaluator evaluator) {
+    this.evaluator = evaluator;
+  }
+  
+  /**
+   * Returns how this AI values the positions it stops looking ahead at
+   * 
+   * @return <code>null</code> if it only counts points scored
+   */
+  public Evaluator getEvaluator() {
+    return evaluator;
+  }
+  
   /*
    * @see tallyho.model.player.ai.ComputerPlayer
    *   #getTurn(tallyho.model.BoardImpl)
    */
   public Turn getTurn(Board board) {
+    return getTurn(board, timeLimit);
+  }
+  
+  /**
+   * Returns the turn this AI wishes to make, taking no longer than the given
+   * time (apart from looking at the next turn only, which it always does)
+   * 
+   * @param board can't be <code>null</code>
+   * @param timeLimit the number of milliseconds, or zero for no limit
+   * @return see {@link ComputerPlayer#getTurn(Board)}
+   */
+  public Turn getTurn(Board board, long timeLimit) {
+    return getTurn(board, timeLimit, null);
+  }
+  
+  /**
+   * As for {@link #getTurn(Board, long)}, but can also be stopped from
+   * another thread, e.g. once nobody wants the turn any more
+   * 
+   * @param board can't be <code>null</code>
+   * @param timeLimit the number of milliseconds, or zero for no limit
+   * @param stopped set to stop searching soon after; <code>null</code> if
+   *   only the time limit stops it
+   * @return see {@link ComputerPlayer#getTurn(Board)}
+   * @throws IllegalStateException if stopped before any turn was chosen
+   */
+  public Turn getTurn(Board board, long timeLimit, AtomicBoolean stopped) {
+    boolean newSearch = !pondered;
+    pondered = false;
+    if (openingBook != null) {
+      Turn openingFlip = openingBook.getFlip(board, getTeam());
+      if (openingFlip != null) {
+        LOG.info("Opening with " + openingFlip);
+        return openingFlip;
+      }
+    }
     LOG.info(">>> Getting turn for board:\n\n" + board);
+    SearchSettings settings = createSettings();
+    settings.setTimeLimit(timeLimit);
+    settings.setStopFlag(stopped);
+    settings.setNewSearch(newSearch);
     // Get a min/max tree of the possible moves
-    MinMaxTree possibleMoves =
-      new MinMaxTreeImpl(getTeam(), board, turnsToLookAhead);
+    MinMaxTreeImpl possibleMoves =
+      MinMaxTreeImpl.search(getTeam(), board, turnsToLookAhead, settings);
+    LOG.info("Looked ahead " + possibleMoves.getDepthReached() + " turns");
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Positions searched by each thread: "
+          + Arrays.toString(possibleMoves.getNodeCounts()));
+    }
     return possibleMoves.getBestTurn();
   }
+
+  /**
+   * Sets the book this AI looks up its opening flips in, while every tile is
+   * face-down, rather than searching them
+   * 
+   * @param openingBook <code>null</code> to always search, as by default;
+   *   e.g. {@link OpeningBook#getDefault()}
+   */
+  public void setOpeningBook(OpeningBook openingBook) {
+    this.openingBook = openingBook;
+  }
+  
+  /**
+   * Returns the book this AI looks up its opening flips in
+   * 
+   * @return <code>null</code> if it always searches
+   */
+  public OpeningBook getOpeningBook() {
+    return openingBook;
+  }
+  
+  /**
+   * Sets whether this AI thinks during its opponent's turns, when asked to
+   * {@link #ponder(Board, AtomicBoolean)}
+   * 
+   * @param pondering <code>false</code> to leave the CPU idle until it's
+   *   this AI's turn
+   */
+  public void setPondering(boolean pondering) {
+    this.pondering = pondering;
+  }
+  
+  /**
+   * Returns whether this AI thinks during its opponent's turns
+   * 
+   * @return see above
+   */
+  public boolean isPondering() {
+    return pondering;
+  }
+  
+  /**
+   * Thinks about this AI's next turn while its opponent chooses theirs.
+   * Looks ahead (as far as for one of its own turns, without a time limit)
+   * from the position after each of the opponent's possible turns, the
+   * highest-scoring first, until they've all been searched or the given flag
+   * is set. Nothing is chosen, but the positions searched are remembered, so
+   * if the opponent makes one of those turns, this AI's next turn is mostly
+   * looked up rather than searched again; if not, it searches as usual. Does
+   * nothing if this AI isn't pondering.
+   * 
+   * @param board the position with the opponent about to move; can't be
+   *   <code>null</code>; is changed while pondering, but left as it was found
+   * @param stopped set (e.g. from another thread, once the opponent has
+   *   chosen their turn) to stop pondering soon after; can't be
+   *   <code>null</code>
+   */
+  public void ponder(Board board, AtomicBoolean stopped) {
+    if (board == null)
+      throw new IllegalArgumentException("Board can't be null");
+    if (stopped == null)
+      throw new IllegalArgumentException("Stop flag can't be null");
+    if (!pondering)
+      return;
+    
+    Team opponent =
+      Team.HUMANS.equals(getTeam()) ? Team.PREDATORS : Team.HUMANS;
+    TurnList replies = new TurnList();
+    board.addPossibleTurns(opponent, replies);
+    replies.sortByScore();
+    SearchSettings settings = createSettings();
+    settings.setStopFlag(stopped);
+    // Age the table once, rather than for each reply, so that the first
+    // replies' positions are kept as long as the last ones'
+    table.newSearch();
+    settings.setNewSearch(false);
+    pondered = true;
+    LOG.info(">>> Pondering " + replies.size() + " replies to board:\n\n"
+        + board);
+    for (int i = 0; i < replies.size() && !stopped.get(); i++) {
+      UndoRecord record = board.apply(replies.get(i));
+      try {
+        if (board.isTurnPossible(getTeam()))
+          MinMaxTreeImpl.search(getTeam(), board, turnsToLookAhead, settings);
+      }
+      finally {
+        board.undo(record);
+      }
+    }
+  }
+  
+  /**
+   * Returns the settings for searching from a position, without a time limit
+   * 
+   * @return a new instance
+   */
+  private SearchSettings createSettings() {
+    SearchSettings settings = new SearchSettings();
+    settings.setChanceOutcomes(chanceOutcomes);
+    settings.setTable(table);
+    settings.setPool(pool);
+    settings.setThreads(threads);
+    settings.setEvaluator(evaluator);
+    return settings;
+  }
+
+  /**
+   * Returns the table in which this AI remembers the positions it's searched
+   * 
+   * @return a non-<code>null</code> table
+   */
+  TranspositionTable getTable() {
+    return table;
+  }
 }
@@ -5,313 +5,984 @@ package tallyho.model.player.ai;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
+import java.util.Comparator;
 import java.util.List;
-
-import javax.swing.tree.DefaultMutableTreeNode;
-import javax.swing.tree.DefaultTreeModel;
-import javax.swing.tree.MutableTreeNode;
-import javax.swing.tree.TreeModel;
-import javax.swing.tree.TreeNode;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import tallyho.model.Board;
 import tallyho.model.Team;
+import tallyho.model.UndoRecord;
+import tallyho.model.tile.TileKind;
+import tallyho.model.turn.PackedTurn;
 import tallyho.model.turn.Turn;
+import tallyho.model.turn.TurnList;
 
 /**
- * An implementation of the MinMaxTree interface
+ * An implementation of the MinMaxTree interface that searches the tree
+ * depth-first with alpha-beta pruning, rather than building it in memory.
+ * <p>
+ * The tree is searched in "negamax" form: the value of a position to the team
+ * about to move is the best, over all their possible turns, of that turn's
+ * score minus the value of the resulting position to their opponent. Turns are
+ * tried highest-scoring first, so that good lines are found early and the
+ * remaining ones are cut off sooner. Each turn is made on a single copy of the
+ * board and then taken back, so nothing is cloned below the root.
+ * <p>
+ * A Flip is searched as a chance node: the AI doesn't get to see what's
+ * under the tile, so it averages over the kinds of tile it could be, weighted
+ * by how many of each are still face-down (a Hunter being equally likely to
+ * face each way, as which way the hidden ones face can't be seen). To keep
+ * the cost predictable, if there are more kinds than the limit, that many
+ * are drawn at random in proportion to their weights, and their average
+ * estimates the whole one; the draws are seeded by what can be seen of the
+ * position, so the same position always draws the same kinds, whatever is
+ * really face-down. Alternatively a limit of zero makes the search look under
+ * the tile like the old look-ahead AI did.
+ * <p>
+ * Given a time limit, the tree is searched one turn deeper at a time
+ * ("iterative deepening"), and the result of the deepest search to finish in
+ * time is kept. Looking only at the next turn is always finished, however
+ * long it takes.
+ * <p>
+ * Given a pool of threads, the next turns are searched in parallel, each on
+ * its own copy of the board. Alternatively (or as well), helpers can search
+ * the whole tree alongside the main search, starting at different depths and
+ * turns; they don't report their results, but record them in the
+ * transposition table, where the main search (and each other) can find them
+ * ("Lazy SMP"). The helpers run in the same pool (or the common pool if
+ * there isn't one), and anything they throw is thrown by the main search.
+ * <p>
+ * Given an {@link Evaluator}, the positions where the search stops are worth
+ * what it estimates, rather than nothing, so that a deeper search with a
+ * cheap estimate at the end can see more than one that only counts points.
+ * Flips are then searched as chance nodes even on the last turn looked at,
+ * since the evaluator would otherwise see the tile actually revealed.
  */
 public class MinMaxTreeImpl implements MinMaxTree {
 
+  // Constants
+  /**
+   * The default number of kinds of tile considered for each Flip, if more
+   * are possible
+   */
+  public static final int DEFAULT_CHANCE_OUTCOMES = 2;
+
+  // -- bigger than any possible difference in scores, but safe to negate
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+  // -- how often to check the time, as a mask of the node count
+  private static final long TIME_CHECK_MASK = 0x3F;
+
+  // -- distinguishes the teams to move in transposition table keys
+  private static final long HUMANS_TO_MOVE = 0x9E3779B97F4A7C15L;
+
+  // -- orders turns from highest to lowest scoring
+  private static final Comparator<Turn> BY_SCORE = new Comparator<Turn>() {
+    public int compare(Turn turn1, Turn turn2) {
+      return turn2.getScore() - turn1.getScore();
+    }
+  };
+
+  // -- the kinds of tile a Flip could reveal, roughly from most to least
+  // -- likely at the start of a round, so that their values decide the
+  // -- Flip's sooner
+  private static final TileKind[] CHANCE_KINDS = {
+    TileKind.TREE, TileKind.PHEASANT, TileKind.DUCK, TileKind.FOX,
+    TileKind.HUNTER_BIG_X, TileKind.HUNTER_BIG_Y, TileKind.HUNTER_SMALL_X,
+    TileKind.HUNTER_SMALL_Y, TileKind.BEAR, TileKind.LUMBERJACK
+  };
+
+  // -- the number of ways a Hunter can face
+  private static final int DIRECTIONS = 4;
+
   // Properties
-  private TreeModel turnTree;
+  private final List<Turn> bestTurns;
   private final Team team;
-  
+  private final int chanceOutcomes;
+  private final TranspositionTable table;
+  // -- estimates the value of the leaves; null if they're worth nothing
+  private final Evaluator evaluator;
+  // -- the source from which to pick one of the best turns
+  private final Random random;
+  // -- the threads across which to split the next turns, if any
+  private final ForkJoinPool pool;
+  // -- the helpers searching the tree at the same time, if any
+  private final MinMaxTreeImpl[] helpers;
+  // -- set to stop the search (or for a helper, when the main search is
+  // -- over); null if only the time limit stops it
+  private final AtomicBoolean stopped;
+  private int bestValue;
+  private int depthReached;
+  private long nodes;
+  // -- when to give up searching (per System.nanoTime), if isTimed
+  private long deadline;
+  private boolean isTimed;
+  // -- lists of turns to reuse, indexed by the depth left to search
+  private TurnList[] turnLists = new TurnList[0];
+  // -- the weights of the CHANCE_KINDS (then the number of times each is
+  // -- drawn) to reuse, indexed likewise
+  private int[][] chanceWeights = new int[0][];
+
   /**
-   * Constructor
-   * 
+   * Searches the tree of turns from the given position with the default
+   * settings
+   *
    * @param team the team whose move is being chosen
    * @param board the initial board position from which the tree of moves will
-   *   be generated
+   *   be searched; isn't changed
    * @param depth the maximum depth of the tree, i.e. the number of moves to
    *   look ahead (beyond the next move)
+   * @return the searched tree
+   * @see SearchSettings
+   */
+  public static MinMaxTreeImpl search(final Team team, final Board board,
+      final int depth)
+  {
+    return search(team, board, depth, new SearchSettings());
+  }
+
+  /**
+   * Searches the tree of turns from the given position
+   *
+   * @param team the team whose move is being chosen
+   * @param board the initial board position from which the tree of moves will
+   *   be searched; isn't changed
+   * @param depth the maximum depth of the tree, i.e. the most moves to look
+   *   ahead (beyond the next move)
+   * @param settings how to search the tree; can't be <code>null</code>
+   * @return the searched tree
    */
-  public MinMaxTreeImpl(final Team team, final Board board, final int depth) {
-    // Populate it to the given depth from the given board position
-    generateTurnTree(board, depth);
+  public static MinMaxTreeImpl search(final Team team, final Board board,
+      final int depth, final SearchSettings settings)
+  {
+    MinMaxTreeImpl tree = new MinMaxTreeImpl(team, board, settings);
+    if (tree.table != null && settings.isNewSearch())
+      tree.table.newSearch();
+    tree.searchTurnTree(board, depth, settings.getTimeLimit());
+    return tree;
+  }
+
+  /**
+   * Constructor for a tree that's yet to be searched
+   *
+   * @param team the team whose move is being chosen
+   * @param board the initial board position; isn't changed
+   * @param settings how to search the tree; can't be <code>null</code>
+   */
+  private MinMaxTreeImpl(final Team team, final Board board,
+      final SearchSettings settings)
+  {
+    if (board == null) {
+      throw new IllegalArgumentException("Board can't be null");
+    }
+    if (settings == null) {
+      throw new IllegalArgumentException("Settings can't be null");
+    }
+    if (settings.getThreads() > 1 && settings.getTable() == null) {
+      throw new IllegalArgumentException(
+          "Helper threads need a transposition table");
+    }
+    if (settings.getPool() != null
+        && settings.getThreads() > settings.getPool().getParallelism())
+    {
+      // The helpers would leave no thread in the pool for the main search
+      throw new IllegalArgumentException(
+          "More helper threads than the pool has threads to spare");
+    }
+    this.bestTurns = new ArrayList<Turn>();
     this.team = team;
+    this.chanceOutcomes = settings.getChanceOutcomes();
+    this.table = settings.getTable();
+    this.evaluator = settings.getEvaluator();
+    this.pool = settings.getPool();
+    this.random = board.getRandom();
+    this.helpers = new MinMaxTreeImpl[settings.getThreads() - 1];
+    this.stopped = settings.getStopFlag();
   }
 
   /**
-   * Generates the possible turns for each side, starting from the given board
-   * position and looking ahead the given number of turns beyond the next one.
-   * 
+   * Constructor for a worker that searches part of the given tree on its own
+   * thread, counting its own nodes
+   *
+   * @param tree the tree being searched; can't be <code>null</code>
+   * @param stopped set to stop the worker, or <code>null</code> if it only
+   *   stops when the tree's time is up
+   */
+  private MinMaxTreeImpl(final MinMaxTreeImpl tree,
+      final AtomicBoolean stopped)
+  {
+    this.bestTurns = new ArrayList<Turn>();
+    this.team = tree.team;
+    this.chanceOutcomes = tree.chanceOutcomes;
+    this.table = tree.table;
+    this.evaluator = tree.evaluator;
+    this.pool = null;
+    this.random = tree.random;
+    this.helpers = new MinMaxTreeImpl[0];
+    this.stopped = stopped;
+    this.deadline = tree.deadline;
+    this.isTimed = tree.isTimed;
+  }
+
+  /**
+   * Searches the possible turns for each side, starting from the given board
+   * position and looking ahead the given number of turns beyond the next one,
+   * and remembers the next turns that have the best min-max value.
+   *
    * @param board can't be <code>null</code>
    * @param depth 0 means only consider the next turn, 1 means also consider
    *   the other player's next turn, and so on. Cannot be negative.
+   * @param timeLimit milliseconds after which to stop deepening the search;
+   *   zero for no limit
    */
-  private void generateTurnTree(Board board, int depth) {
-    if (board == null) {
-      throw new IllegalArgumentException("BoardImpl can't be null");
-    }
+  private void searchTurnTree(Board board, int depth, long timeLimit) {
     if (depth < 0) {
       throw new IllegalArgumentException("Depth must be zero or greater");
     }
-    /*
-     * Create an empty turn tree with a dummy root node (it's not used by our
-     * min-max algorithm, as its children are the current player's set of next
-     * available moves
-     */
-    turnTree = new DefaultTreeModel(new DefaultMutableTreeNode(null));
-    
-    // Find all the moves from the given board position to the given depth
-    
-    // TODO Auto-generated method stub
+
+    Board boardCopy = copy(board);
+    List<Turn> turns = getOrderedTurns(boardCopy, team);
+    AtomicBoolean helpersStopped = new AtomicBoolean();
+    List<ForkJoinTask<?>> helperTasks =
+      startHelpers(boardCopy, turns, depth, helpersStopped);
+    try {
+      deepen(boardCopy, turns, depth, timeLimit);
+    }
+    finally {
+      stopHelpers(helperTasks, helpersStopped);
+    }
   }
-  
-  /*
-   * (non-Javadoc)
-   * @see tallyho.model.player.ai.MinMaxTree#getBestTurn()
+
+  /**
+   * Searches the given board to the given depth, or if there's a time limit,
+   * to one turn deeper at a time until the time runs out
+   *
+   * @param board the position to search
+   * @param turns the team's possible turns, in the order to try them
+   * @param depth the most turns to look ahead beyond the next one
+   * @param timeLimit milliseconds after which to stop deepening the search;
+   *   zero for no limit
    */
-  public Turn getBestTurn() {
-    // Find the next TurnNodes with the best min-max values
-    List<TurnNode> bestNextNodes = getBestNextNodes();
-    // Pick one at random to prevent the AI being predictable
-    Collections.shuffle(bestNextNodes);
-    // Return the Turn with which it's associated
-    return bestNextNodes.get(0).getTurn();
+  private void deepen(Board board, List<Turn> turns, int depth,
+      long timeLimit)
+  {
+    if (timeLimit == 0 && stopped == null) {
+      bestValue = searchRoot(board, turns, depth, bestTurns);
+      depthReached = depth;
+      return;
+    }
+
+    // Search one turn deeper at a time until the time runs out (or the
+    // search is stopped)
+    long stopTime = System.nanoTime() + timeLimit * 1000000;
+    for (int iterationDepth = 0; iterationDepth <= depth; iterationDepth++) {
+      List<Turn> iterationBestTurns = new ArrayList<Turn>();
+      int iterationValue;
+      try {
+        iterationValue =
+          searchRoot(board, turns, iterationDepth, iterationBestTurns);
+      }
+      catch (TimeUpException ex) {
+        // Keep the results of the last search that finished
+        break;
+      }
+      bestTurns.clear();
+      bestTurns.addAll(iterationBestTurns);
+      bestValue = iterationValue;
+      depthReached = iterationDepth;
+
+      // Start the next search with the best turns from this one
+      turns.removeAll(bestTurns);
+      turns.addAll(0, bestTurns);
+      deadline = stopTime;
+      isTimed = timeLimit > 0;
+    }
   }
 
   /**
-   * Finds the node or nodes (leading from the root node of the turn tree) that
-   * have the highest min-max values; i.e. the nodes representing the best next
-   * turn(s).
-   * 
-   * @return a non-empty List
+   * Starts this tree's helpers searching the given board as tasks in its
+   * pool (or the common pool if it has none), each with its own copy of the
+   * board. Half the helpers start one turn deeper than the others, and each
+   * starts with a different next turn, so that they tend to search different
+   * positions.
+   *
+   * @param board the position to search; isn't changed
+   * @param turns the team's possible turns, in the order the main search
+   *   will try them; isn't changed
+   * @param depth the most turns to look ahead beyond the next one
+   * @param helpersStopped to be set when the helpers should stop
+   * @return the helpers' tasks
    */
-  private List<TurnNode> getBestNextNodes() {
-    TreeNode root = (TreeNode) turnTree.getRoot();
-    int nextMoveCount = root.getChildCount();
-    if (nextMoveCount == 0) {
-      // This shouldn't happen as the caller should have checked first
-      throw new IllegalStateException("AI has no next move");
+  private List<ForkJoinTask<?>> startHelpers(Board board, List<Turn> turns,
+      final int depth, AtomicBoolean helpersStopped)
+  {
+    ForkJoinPool helperPool = (pool == null) ? ForkJoinPool.commonPool() : pool;
+    List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>();
+    for (int i = 0; i < helpers.length; i++) {
+      final int helperNo = i + 1;
+      final MinMaxTreeImpl helper = new MinMaxTreeImpl(this, helpersStopped);
+      final Board helperBoard = copy(board);
+      final List<Turn> helperTurns = new ArrayList<Turn>(turns);
+      Collections.rotate(helperTurns, -helperNo);
+      helpers[i] = helper;
+      tasks.add(helperPool.submit(new RecursiveAction() {
+        protected void compute() {
+          helper.help(helperBoard, helperTurns, depth, 1 + helperNo % 2);
+        }
+      }));
+    }
+    return tasks;
+  }
+
+  /**
+   * Stops the given helpers and waits for them to finish
+   *
+   * @param tasks the helpers' tasks
+   * @param helpersStopped the flag they check
+   * @throws RuntimeException if a helper failed, so that the main search
+   *   doesn't carry on as if it hadn't
+   */
+  private void stopHelpers(List<ForkJoinTask<?>> tasks,
+      AtomicBoolean helpersStopped)
+  {
+    helpersStopped.set(true);
+    for (ForkJoinTask<?> task : tasks) {
+      // Throws whatever the helper threw
+      task.join();
+    }
+  }
+
+  /**
+   * Searches the given board one turn deeper at a time, as a helper, until
+   * stopped or the maximum depth has been searched. The results are only
+   * recorded in the transposition table.
+   *
+   * @param board the position to search
+   * @param turns the team's possible turns, in the order to try them
+   * @param depth the most turns to look ahead beyond the next one
+   * @param startDepth the number of turns to look ahead the first time
+   */
+  private void help(Board board, List<Turn> turns, int depth, int startDepth)
+  {
+    try {
+      for (int iterationDepth = Math.min(startDepth, depth);
+          iterationDepth <= depth; iterationDepth++)
+      {
+        searchRoot(board, turns, iterationDepth, new ArrayList<Turn>());
+      }
+    }
+    catch (TimeUpException ex) {
+      // The main search has finished
     }
-    // Go through the next nodes and find the ones with the highest min-max val
-    List<TurnNode> bestNextNodes = new ArrayList<TurnNode>();
-    // Start by assuming the first candidate is one of the best
-    TurnNode firstRootChild = (TurnNode) root.getChildAt(0);
-    bestNextNodes.add(firstRootChild);
-    int highestMinMaxValue = firstRootChild.getMinMaxValue(team);
-    // Go through the others looking for ones as good or better
-    for (int i = 1; i < nextMoveCount; i++) {
-      TurnNode rootChild = (TurnNode) root.getChildAt(i);
-      int rootChildMinMaxValue = rootChild.getMinMaxValue(team);
-      if (rootChildMinMaxValue == highestMinMaxValue) {
+  }
+
+  /**
+   * Finds the exact value of every next turn that's at least as good as the
+   * best one so far, so that equally good turns can be told apart from worse
+   * ones (and one of them picked at random)
+   *
+   * @param board the position to search
+   * @param turns the team's possible turns, in the order to try them
+   * @param depth the number of turns to look ahead beyond the next one
+   * @param best the List to which to add the best turns
+   * @return the value of the best turns
+   * @throws TimeUpException if the time ran out first; the board is then left
+   *   part-way through a line of play
+   */
+  private int searchRoot(Board board, List<Turn> turns, int depth,
+      List<Turn> best)
+  {
+    if (pool != null && turns.size() > 1)
+      return searchRootInParallel(board, turns, depth, best);
+    int value = -INFINITY;
+    for (Turn turn : turns) {
+      int turnValue = getTurnValue(
+          board, PackedTurn.pack(turn), depth, value - 1, INFINITY);
+      if (turnValue == value) {
         // As good as the best found so far - add it to the list
-        bestNextNodes.add(rootChild);
+        best.add(turn);
       }
-      else if (rootChildMinMaxValue > highestMinMaxValue) {
+      else if (turnValue > value) {
         // Better than the best found so far
-        bestNextNodes.clear();
-        bestNextNodes.add(rootChild);
-        highestMinMaxValue = rootChildMinMaxValue;
+        best.clear();
+        best.add(turn);
+        value = turnValue;
       }
       else {
         // It's worse than the best already found - ignore it
       }
     }
-    return bestNextNodes;
+    return value;
   }
-  
+
   /**
-   * Encapsulates a node in the min-max tree. It has the following properties:
-   * <ul>
-   *   <li>The game turn with which it's associated<li>
-   *   <li>Its parent node, if any</li>
-   *   <li>Its child nodes, if any</li>
-   *   <li>Its min-max value</li>
-   * </ul>
+   * As for {@link #searchRoot(Board, List, int, List)}, but searches each
+   * next turn as a separate task in this tree's pool. Each task has its own
+   * copy of the board, and they share the best value found so far (so each
+   * can prune with what the others have found). The best turns are listed in
+   * the same order as by a search on one thread.
+   *
+   * @param board the position to search; isn't changed
+   * @param turns the team's possible turns, in the order to start them
+   * @param depth the number of turns to look ahead beyond the next one
+   * @param best the List to which to add the best turns
+   * @return the value of the best turns
+   * @throws TimeUpException if the time ran out first
    */
-  static class TurnNode implements MutableTreeNode {
+  private int searchRootInParallel(final Board board, final List<Turn> turns,
+      final int depth, List<Turn> best)
+  {
+    final int[] values = new int[turns.size()];
+    final MinMaxTreeImpl[] workers = new MinMaxTreeImpl[turns.size()];
+    final AtomicInteger sharedBest = new AtomicInteger(-INFINITY);
+    final List<RecursiveAction> tasks = new ArrayList<RecursiveAction>();
+    for (int i = 0; i < turns.size(); i++) {
+      final int index = i;
+      tasks.add(new RecursiveAction() {
+        protected void compute() {
+          MinMaxTreeImpl worker =
+            new MinMaxTreeImpl(MinMaxTreeImpl.this, stopped);
+          workers[index] = worker;
+          int value = worker.getTurnValue(copy(board),
+              PackedTurn.pack(turns.get(index)), depth,
+              sharedBest.get() - 1, INFINITY);
+          values[index] = value;
+          // Raise the shared bound if this turn is the best so far
+          int bestSoFar = sharedBest.get();
+          while (value > bestSoFar
+              && !sharedBest.compareAndSet(bestSoFar, value))
+          {
+            bestSoFar = sharedBest.get();
+          }
+        }
+      });
+    }
+    pool.invoke(new RecursiveAction() {
+      protected void compute() {
+        invokeAll(tasks);
+      }
+    });
 
-    // Properties
-    private final MutableTreeNode baseNode;
-    private final Turn turn;
-    
-    /**
-     * Constructor
-     * 
-     * @param turn the turn with which this node is associated; can be
-     *   <code>null</code> for the root node
-     */
-    public TurnNode(Turn turn) {
-      this.turn = turn;
-      baseNode = new DefaultMutableTreeNode();
+    // Every turn at least as good as the final bound has its exact value
+    int value = sharedBest.get();
+    for (int i = 0; i < turns.size(); i++) {
+      nodes += workers[i].nodes;
+      if (values[i] == value)
+        best.add(turns.get(i));
     }
+    return value;
+  }
 
-    /**
-     * Returns the min-max value of this TurnNode
-     * 
-     * @param team the team whose move is being chosen
-     * @return see above
-     */
-    public int getMinMaxValue(Team team) {
-      // For any node, part of the min-max value is the turn's own score
-      int minMaxValue = turn.getScore();
-      if (!isLeaf()) {
-        // Add the min or max of any child nodes (depending whose turn is next)
-        if (team.equals(turn.getTeam())) {
-          // Next turn is opponent's => add smallest child
-          minMaxValue += getMinimumChildValue(team);
-        }
-        else {
-          // Next turn is ours => add biggest child
-          minMaxValue += getMaximumChildValue(team);
-        }
-      }
-      return minMaxValue;
+  /**
+   * Indicates whether this search should stop, because its time is up or
+   * it's been stopped (for a helper, because the main search has finished)
+   *
+   * @return see above
+   */
+  private boolean isStopped() {
+    return (isTimed && System.nanoTime() - deadline > 0)
+      || (stopped != null && stopped.get());
+  }
+
+  /**
+   * Returns the min-max value of the given board position to the given team,
+   * who are about to move, to within the given bounds. If the true value is
+   * outside the bounds, the bound it's on the far side of is returned.
+   *
+   * @param board the position to evaluate; is left as it was found
+   * @param mover the team about to move
+   * @param depth the number of turns to look ahead beyond the next one; if
+   *   negative, the position isn't searched any further
+   * @param alpha a value the mover is already guaranteed elsewhere
+   * @param beta a value the mover's opponent is already guaranteed elsewhere
+   * @return see above
+   */
+  private int getValue(Board board, Team mover, int depth, int alpha, int beta)
+  {
+    if (depth < 0) {
+      // A leaf - nobody scores any more points, unless the evaluator expects
+      // them to
+      if (evaluator == null)
+        return 0;
+      int pointsLeft = getPointsLeft(board);
+      return Math.max(-pointsLeft,
+          Math.min(pointsLeft, evaluator.evaluate(board, mover)));
+    }
+    nodes++;
+    if ((nodes & TIME_CHECK_MASK) == 0 && isStopped()) {
+      throw new TimeUpException();
+    }
+    TurnList turns = getOrderedTurns(board, mover, depth);
+    if (turns.isEmpty()) {
+      // The mover has to pass
+      turns.add(PackedTurn.pass(mover));
+    }
+    if (depth == 0 && evaluator == null) {
+      // Only this turn counts, so the highest scoring one (the first) is best
+      return PackedTurn.getScore(turns.get(0));
     }
 
-    /**
-     * Returns the smallest min/max value out of this node's children
-     * 
-     * @param team the team whose move is being chosen
-     * @return see above
-     */
-    private int getMinimumChildValue(Team team) {
-      // Start by assuming the first child is the lowest
-      int minimumChild = ((TurnNode) getChildAt(0)).getMinMaxValue(team);
-      // Check any others
-      for (int i = 1; i < getChildCount(); i++) {
-        TurnNode child = (TurnNode) getChildAt(i);
-        int childValue = child.getMinMaxValue(team);
-        if (childValue < minimumChild) {
-          // Found a smaller one
-          minimumChild = childValue;
+    // See if this position has been searched already
+    long key = 0;
+    int firstTurn = 0;
+    if (table != null) {
+      key = getKey(board, mover);
+      long entry = table.probe(key);
+      if (entry != 0) {
+        if (TranspositionTable.getDepth(entry) >= depth) {
+          int value = TranspositionTable.getValue(entry);
+          switch (TranspositionTable.getBound(entry)) {
+            case TranspositionTable.EXACT:
+              return value;
+            case TranspositionTable.LOWER_BOUND:
+              if (value >= beta)
+                return value;
+              break;
+            default:
+              if (value <= alpha)
+                return value;
+          }
         }
+        // Try the best turn from last time first
+        int bestTurn = TranspositionTable.getBestTurn(entry);
+        if (bestTurn < turns.size())
+          firstTurn = bestTurn;
       }
-      return minimumChild;
     }
 
-    /**
-     * Returns the biggest min/max value out of this node's children
-     * 
-     * @param team the team whose move is being chosen
-     * @return see above
-     */
-    private int getMaximumChildValue(Team team) {
-      // Start by assuming the first child is the highest
-      int maximumChild = ((TurnNode) getChildAt(0)).getMinMaxValue(team);
-      // Check any others
-      for (int i = 1; i < getChildCount(); i++) {
-        TurnNode child = (TurnNode) getChildAt(i);
-        int childValue = child.getMinMaxValue(team);
-        if (childValue > maximumChild) {
-          // Found a bigger one
-          maximumChild = childValue;
+    int originalAlpha = alpha;
+    int best = -INFINITY;
+    int bestTurn = TranspositionTable.NO_BEST_TURN;
+    for (int n = 0; n < turns.size(); n++) {
+      // Try the first turn, then the others in order
+      int i = (n == 0) ? firstTurn : ((n <= firstTurn) ? n - 1 : n);
+      int value = getTurnValue(board, turns.get(i), depth, alpha, beta);
+      if (value > best) {
+        best = value;
+        bestTurn = i;
+        if (best > alpha) {
+          alpha = best;
+          if (alpha >= beta) {
+            // The opponent won't allow this position - stop looking
+            break;
+          }
         }
       }
-      return maximumChild;
     }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#children()
-     */
-    public Enumeration children() {
-      return baseNode.children();
+    if (table != null) {
+      int bound = TranspositionTable.EXACT;
+      if (best <= originalAlpha) {
+        // Every turn was too weak to matter, so none of them is known best
+        bound = TranspositionTable.UPPER_BOUND;
+        bestTurn = TranspositionTable.NO_BEST_TURN;
+      }
+      else if (best >= beta)
+        bound = TranspositionTable.LOWER_BOUND;
+      table.store(key, depth, bound, best, bestTurn);
     }
+    return best;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#getAllowsChildren()
-     */
-    public boolean getAllowsChildren() {
-      return true;
+  /**
+   * Returns the min-max value of the given turn to the team making it, to
+   * within the given bounds (as for
+   * {@link #getValue(Board, Team, int, int, int)}).
+   *
+   * @param board the position before the turn; is left as it was found
+   * @param turn the turn to evaluate, encoded as per PackedTurn
+   * @param depth the number of turns to look ahead beyond this one
+   * @param alpha a value the mover is already guaranteed elsewhere
+   * @param beta a value the mover's opponent is already guaranteed elsewhere
+   * @return see above
+   */
+  private int getTurnValue(
+      Board board, int turn, int depth, int alpha, int beta)
+  {
+    if (PackedTurn.isFlip(turn) && chanceOutcomes > 0
+        && (depth > 0 || evaluator != null))
+    {
+      return getFlipValue(board, turn, depth, alpha, beta);
     }
+    int score = PackedTurn.getScore(turn);
+    UndoRecord record = board.apply(turn);
+    int value = score - getValue(board, getOpponent(PackedTurn.getTeam(turn)),
+        depth - 1, score - beta, score - alpha);
+    board.undo(record);
+    return value;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#getChildAt(int)
-     */
-    public TreeNode getChildAt(int childIndex) {
-      return baseNode.getChildAt(childIndex);
+  /**
+   * Returns the expected min-max value of the given flip to the team making
+   * it, averaged over the kinds of tile it could reveal (or if there are too
+   * many, a sample of them), to within the given bounds.
+   * <p>
+   * No position can be worth more than the points left on the board, so once
+   * some outcomes have been searched, the others can be searched with bounds
+   * outside which the flip's value would be decided whatever they turned out
+   * to be (the "Star1" algorithm).
+   *
+   * @param board the position before the flip; is left as it was found
+   * @param flip the flip to evaluate, encoded as per PackedTurn
+   * @param depth the number of turns to look ahead beyond this one
+   * @param alpha a value the mover is already guaranteed elsewhere
+   * @param beta a value the mover's opponent is already guaranteed elsewhere
+   * @return see above; if the value is exact, it's to the nearest point
+   */
+  private int getFlipValue(
+      Board board, int flip, int depth, int alpha, int beta)
+  {
+    int[] outcomes = getChanceWeights(depth);
+    int weights = getFlipOutcomes(board, flip, outcomes);
+    // A flip itself scores nothing
+    int pointsLeft = getPointsLeft(board);
+    int lowest = -pointsLeft;
+    int highest = pointsLeft;
+    Team mover = PackedTurn.getTeam(flip);
+
+    long total = 0;
+    int weightLeft = weights;
+    for (int i = 0; i < CHANCE_KINDS.length; i++) {
+      int weight = outcomes[i];
+      if (weight == 0)
+        continue;
+      weightLeft -= weight;
+      // Values of this outcome beyond which the others can't make a difference
+      long low = floorDiv((long) alpha * weights - total
+          - (long) weightLeft * highest, weight);
+      long high = ceilDiv((long) beta * weights - total
+          - (long) weightLeft * lowest, weight);
+      int outcomeAlpha = (int) Math.max(low, lowest - 1);
+      int outcomeBeta = (int) Math.min(high, highest + 1);
+
+      // Suppose the flipped tile is of this kind
+      UndoRecord record = board.apply(PackedTurn.flip(mover,
+          PackedTurn.getX(flip), PackedTurn.getY(flip), CHANCE_KINDS[i]));
+      int value = -getValue(board, getOpponent(mover), depth - 1,
+          -outcomeBeta, -outcomeAlpha);
+      board.undo(record);
+
+      if (value >= high) {
+        // The flip is worth at least beta
+        return beta;
+      }
+      if (value <= low) {
+        // The flip is worth at most alpha
+        return alpha;
+      }
+      total += (long) value * weight;
     }
-    
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#getChildCount()
-     */
-    public int getChildCount() {
-      return baseNode.getChildCount();
+    return (int) Math.round((double) total / weights);
+  }
+
+  /**
+   * Returns the key under which the given position is kept in the
+   * transposition table
+   *
+   * @param board can't be <code>null</code>
+   * @param mover the team about to move
+   * @return see above
+   */
+  static long getKey(Board board, Team mover) {
+    long key = board.getHash();
+    if (Team.HUMANS.equals(mover))
+      key ^= HUMANS_TO_MOVE;
+    return key;
+  }
+
+  /**
+   * Returns the total value of the tiles on the given board, which is the
+   * most either team can score from here
+   *
+   * @param board can't be <code>null</code>
+   * @return zero or more
+   */
+  private static int getPointsLeft(Board board) {
+    int points = 0;
+    for (Team team : Team.values()) {
+      points += board.getTileValue(team, true)
+        + board.getTileValue(team, false);
     }
+    return points;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#getIndex(javax.swing.tree.TreeNode)
-     */
-    public int getIndex(TreeNode node) {
-      return baseNode.getIndex(node);
+  /**
+   * Returns the largest whole number not greater than the given quotient
+   *
+   * @param dividend any number
+   * @param divisor must be positive
+   * @return see above
+   */
+  private static long floorDiv(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    if (dividend % divisor < 0)
+      quotient--;
+    return quotient;
+  }
+
+  /**
+   * Returns the smallest whole number not less than the given quotient
+   *
+   * @param dividend any number
+   * @param divisor must be positive
+   * @return see above
+   */
+  private static long ceilDiv(long dividend, long divisor) {
+    return -floorDiv(-dividend, divisor);
+  }
+
+  /**
+   * Works out the weight of each kind of tile a flip on the given board could
+   * reveal, i.e. of each of the CHANCE_KINDS. Each kind is weighted by the
+   * number of face-down tiles of that kind, and the face-down Hunters are
+   * shared equally between the ways they could face. If more kinds are
+   * possible than this tree's limit, that many are drawn at random in
+   * proportion to their weights (seeded by the position as the players see
+   * it, and the square flipped), and each is weighted by the number of times
+   * it was drawn instead.
+   *
+   * @param board can't be <code>null</code>
+   * @param flip the flip, encoded as per PackedTurn
+   * @param outcomes where to put the weight of each kind, in the order of
+   *   the CHANCE_KINDS; at least twice as long, the rest being used for the
+   *   draws
+   * @return the total weight, which is positive
+   */
+  private int getFlipOutcomes(Board board, int flip, int[] outcomes) {
+    int kinds = CHANCE_KINDS.length;
+    int weights = 0;
+    int possible = 0;
+    for (int i = 0; i < kinds; i++) {
+      TileKind kind = CHANCE_KINDS[i];
+      int weight = board.getFaceDownCount(kind);
+      if (kind.getDirection() == 0)
+        weight *= DIRECTIONS;
+      outcomes[i] = weight;
+      weights += weight;
+      if (weight > 0)
+        possible++;
     }
-    
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#getParent()
-     */
-    public TreeNode getParent() {
-      return baseNode.getParent();
+    if (possible <= chanceOutcomes)
+      return weights;
+
+    // Draw the kinds to search, with replacement, seeded only by what can be
+    // seen: the hash (which doesn't say what's face-down) and the square
+    // flipped (the packed flip also holds the kind really there)
+    int square = PackedTurn.getX(flip) * Board.MAX_SIZE + PackedTurn.getY(flip);
+    long seed = board.getHash() ^ ((square + 1) * 0x9E3779B97F4A7C15L);
+    for (int i = 0; i < kinds; i++) {
+      outcomes[kinds + i] = 0;
     }
-    
-    /**
-     * Returns the turn with which this node is associated
-     * 
-     * @return <code>null</code> for the root node
-     */
-    Turn getTurn() {
-      return turn;
+    for (int draw = 0; draw < chanceOutcomes; draw++) {
+      seed += 0x9E3779B97F4A7C15L;
+      int target = (int) ((mix(seed) >>> 1) % weights);
+      int i = 0;
+      while (target >= outcomes[i]) {
+        target -= outcomes[i];
+        i++;
+      }
+      outcomes[kinds + i]++;
     }
+    System.arraycopy(outcomes, kinds, outcomes, 0, kinds);
+    return chanceOutcomes;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.TreeNode#isLeaf()
-     */
-    public boolean isLeaf() {
-      return baseNode.isLeaf();
+  /**
+   * Scrambles the given number, so that close seeds give unrelated draws
+   * (the "SplitMix64" finaliser)
+   *
+   * @param seed any number
+   * @return see above
+   */
+  private static long mix(long seed) {
+    long z = seed;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns the array in which to work out the weights of a Flip's outcomes
+   * at the given depth, which is reused by the next Flip at that depth
+   *
+   * @param depth the depth left to search
+   * @return see {@link #getFlipOutcomes(Board, int, int[])}
+   */
+  private int[] getChanceWeights(int depth) {
+    if (depth >= chanceWeights.length) {
+      int[][] newWeights = new int[depth + 1][];
+      System.arraycopy(chanceWeights, 0, newWeights, 0, chanceWeights.length);
+      for (int i = chanceWeights.length; i <= depth; i++) {
+        newWeights[i] = new int[2 * CHANCE_KINDS.length];
+      }
+      chanceWeights = newWeights;
     }
-    
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#insert(javax.swing.tree.MutableTreeNode, int)
-     */
-    public void insert(MutableTreeNode child, int index) {
-      baseNode.insert(child, index);
+    return chanceWeights[depth];
+  }
+
+  /**
+   * Returns the given team's possible turns on the given board, highest
+   * scoring first
+   *
+   * @param board can't be <code>null</code>
+   * @param mover the team about to move
+   * @return a modifiable List
+   */
+  private List<Turn> getOrderedTurns(Board board, Team mover) {
+    List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(mover));
+    Collections.sort(turns, BY_SCORE);
+    return turns;
+  }
+
+  /**
+   * Returns the given team's possible turns on the given board, encoded as
+   * per PackedTurn and highest scoring first, in the same order as
+   * {@link #getOrderedTurns(Board, Team)}
+   *
+   * @param board can't be <code>null</code>
+   * @param mover the team about to move
+   * @param depth the depth left to search; the list for each depth is reused
+   *   by the next position searched at that depth
+   * @return see above
+   */
+  private TurnList getOrderedTurns(Board board, Team mover, int depth) {
+    if (depth >= turnLists.length) {
+      TurnList[] newLists = new TurnList[depth + 1];
+      System.arraycopy(turnLists, 0, newLists, 0, turnLists.length);
+      for (int i = turnLists.length; i <= depth; i++) {
+        newLists[i] = new TurnList();
+      }
+      turnLists = newLists;
     }
+    TurnList turns = turnLists[depth];
+    turns.clear();
+    board.addPossibleTurns(mover, turns);
+    turns.sortByScore();
+    return turns;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#remove(int)
-     */
-    public void remove(int index) {
-      baseNode.remove(index);
+  /**
+   * Returns a copy of the given board
+   *
+   * @param board can't be <code>null</code>
+   * @return a new Board
+   */
+  private static Board copy(Board board) {
+    try {
+      return (Board) board.clone();
+    }
+    catch (CloneNotSupportedException ex) {
+      // Unexpected since BoardImpl implements Clonable
+      throw new RuntimeException(ex);
     }
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#remove(javax.swing.tree.MutableTreeNode)
-     */
-    public void remove(MutableTreeNode node) {
-      baseNode.remove(node);
+  /**
+   * Returns the opponent of the given team
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return the other one
+   */
+  private static Team getOpponent(Team team) {
+    if (Team.HUMANS.equals(team))
+      return Team.PREDATORS;
+    return Team.HUMANS;
+  }
+
+  /*
+   * (non-Javadoc)
+   * @see tallyho.model.player.ai.MinMaxTree#getBestTurn()
+   */
+  public Turn getBestTurn() {
+    if (bestTurns.isEmpty()) {
+      // This shouldn't happen as the caller should have checked first
+      throw new IllegalStateException("AI has no next move");
     }
+    // Pick one at random (from the board's game) to prevent the AI being
+    // predictable
+    List<Turn> candidates = new ArrayList<Turn>(bestTurns);
+    Collections.shuffle(candidates, random);
+    return candidates.get(0);
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#removeFromParent()
-     */
-    public void removeFromParent() {
-      baseNode.removeFromParent();
+  /**
+   * Returns how far ahead the search looked, which is less than the maximum
+   * depth if the time ran out
+   *
+   * @return the number of turns looked ahead beyond the next one
+   */
+  public int getDepthReached() {
+    return depthReached;
+  }
+
+  /**
+   * Returns the number of positions searched (other than the leaves and the
+   * starting position) by all threads
+   *
+   * @return zero or more
+   */
+  public long getNodeCount() {
+    long total = 0;
+    for (long threadNodes : getNodeCounts()) {
+      total += threadNodes;
     }
+    return total;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#setParent(javax.swing.tree.MutableTreeNode)
-     */
-    public void setParent(MutableTreeNode newParent) {
-      baseNode.setParent(newParent);
+  /**
+   * Returns the number of positions searched by each thread (other than the
+   * leaves and the starting position)
+   *
+   * @return the count for the main search (including any workers in its
+   *   pool), followed by that for each helper
+   */
+  public long[] getNodeCounts() {
+    long[] counts = new long[helpers.length + 1];
+    counts[0] = nodes;
+    for (int i = 0; i < helpers.length; i++) {
+      counts[i + 1] = helpers[i].nodes;
     }
+    return counts;
+  }
 
-    /* (non-Javadoc)
-     * @see javax.swing.tree.MutableTreeNode#setUserObject(java.lang.Object)
+  /**
+   * Returns the min-max value of the best next turn(s)
+   *
+   * @return the net points the team can expect over the turns looked ahead
+   * @throws IllegalStateException if there is no next turn
+   */
+  int getBestValue() {
+    if (bestTurns.isEmpty())
+      throw new IllegalStateException("AI has no next move");
+    return bestValue;
+  }
+
+  /**
+   * Returns all the next turns with the best min-max value
+   *
+   * @return an unmodifiable List, in the order the turns were searched
+   */
+  List<Turn> getBestTurns() {
+    return Collections.unmodifiableList(bestTurns);
+  }
+
+  /**
+   * Thrown to abandon a search when its time runs out
+   */
+  private static class TimeUpException extends RuntimeException {
+
+    /**
+     * Doesn't bother with a stack trace, as this is just for unwinding
+     *
+     * @see java.lang.Throwable#fillInStackTrace()
      */
-    public void setUserObject(Object object) {
-      throw new UnsupportedOperationException("User objects not supported");
+    public synchronized Throwable fillInStackTrace() {
+      return this;
     }
   }
 }
@@ -6,7 +6,7 @@ package tallyho.model.player.ai;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -15,14 +15,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import tallyho.model.Board;
-import tallyho.model.IllegalMoveException;
 import tallyho.model.Team;
+import tallyho.model.UndoRecord;
 import tallyho.model.player.AbstractPlayer;
-import tallyho.model.player.Player;
 import tallyho.model.turn.Turn;
 
 /**
- * An AI that looks ahead a given number of moves
+ * An AI that looks ahead a given number of moves.
+ * <p>
+ * The turns are made on a single copy of the board with
+ * {@link Board#apply(Turn)}, and taken back afterwards, so looking ahead
+ * never adds to any player's score or notifies anyone observing a player or
+ * the board; each path's score comes from the turns along it.
  */
 public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
 
@@ -35,9 +39,6 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
   // -- the number of turns after the current one to look ahead
   private final int turnsToLookAhead;
   
-  // -- a dummy opponent whose scoring we factor into the net worth of a move
-  private Player _opponent;
-  
   /**
    * Constructor that looks ahead the default number of turns
    */
@@ -59,37 +60,6 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
     LOG.info("Constructed look-ahead AI with depth of " + turnsToLookAhead);
   }
   
-  /**
-   * Overridden because our opponent is determined by which team we are on
-   * 
-   * @see tallyho.model.player.Player#setTeam(Team)
-   */
-  public void setTeam(Team team) {
-    super.setTeam(team);
-    this._opponent = getOpponent();
-  }
-  
-  /**
-   * Creates a short-sighted (i.e. no look-ahead) opponent so that we can
-   * factor the points it scores into our overall point value calculations.
-   * 
-   * @return see above
-   */
-  private Player getOpponent() {
-    Player opponent = new ShortSightedAI();
-    switch (getTeam()) {
-      case HUMANS:
-        opponent.setTeam(Team.PREDATORS);
-        break;
-      case PREDATORS:
-        opponent.setTeam(Team.HUMANS);
-        break;
-      default:
-        throw new IllegalStateException("Invalid team: " + getTeam());
-    }
-    return opponent;
-  }
-
   /**
    * @see tallyho.model.player.Player#getType()
    */
@@ -111,7 +81,7 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
     
     // Convert this list of Paths to a Set of turns, to prevent some Turns
     // being more likely to be chosen than others.
-    Set<Turn> bestTurnSet = new HashSet<Turn>();
+    Set<Turn> bestTurnSet = new LinkedHashSet<Turn>();
     Iterator<Path> paths = bestPaths.iterator();
     while (paths.hasNext()) {
       Path path = paths.next();
@@ -121,7 +91,7 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
     
     // Choose one of the best first turns at random
     List<Turn> bestTurns = new ArrayList<Turn>(bestTurnSet);
-    Collections.shuffle(bestTurns);
+    Collections.shuffle(bestTurns, board.getRandom());
     return bestTurns.get(0);
   }
 
@@ -181,13 +151,24 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
     // Declare the collection to be returned
     Collection<Path> allPaths = new ArrayList<Path>();
     
+    // Make and take back the turns on a copy, so as not to disturb the game
+    Board searchBoard;
+    try {
+      searchBoard = (Board) board.clone();
+    }
+    catch (CloneNotSupportedException ex) {
+      // Unexpected since BoardImpl implements Clonable
+      throw new RuntimeException(ex);
+    }
+    
     // Find our initial set of possible turns on the board
-    Iterator<Turn> firstTurns = board.getPossibleTurns(getTeam()).iterator();
+    Iterator<Turn> firstTurns =
+      searchBoard.getPossibleTurns(getTeam()).iterator();
     while (firstTurns.hasNext()) {
       Turn firstTurn = firstTurns.next();
       // Get all the paths from this first turn
       Collection<Path> allPathsFromThisTurn =
-        getAllPaths(board, firstTurn, 0, new Path(firstTurn));
+        getAllPaths(searchBoard, firstTurn, 0, new Path(firstTurn));
       // Add them to the collection
       allPaths.addAll(allPathsFromThisTurn);
     }
@@ -254,7 +235,7 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
   /**
    * Returns all the paths leading from the given turn
    * 
-   * @param board can't be <code>null</code>
+   * @param board the position before the given turn; is left as it was found
    * @param turn can be <code>null</code>
    * @param depth the depth of the given turn, zero-indexed
    * @param parentPath the path leading to the given turn
@@ -282,24 +263,21 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
       allPaths.add(parentPath);
     }
     else {
+      // The given turn isn't a leaf - make it, if any, without scoring it
+      UndoRecord record = null;
+      if (turn != null)
+        record = board.apply(turn);
       try {
-        // The given turn isn't a leaf - make a copy of the board
-        Board boardCopy = (Board) board.clone();
-        if (turn != null) {
-          // A non-null turn was given - make it on the copy board
-          boardCopy.haveTurn(getPlayer(depth), turn);
-        }
-        // Find all the turns at the next depth (for the other player)
-        Player nextPlayer = getPlayer(depth + 1);
+        // Find all the turns at the next depth (for the other team)
+        Team nextTeam = getTeam(depth + 1);
         
-        Collection<Turn> nextTurns =
-          boardCopy.getPossibleTurns(nextPlayer.getTeam());
+        Collection<Turn> nextTurns = board.getPossibleTurns(nextTeam);
         if (DEBUG) {
           System.out.println("After " + turn + ", found next turns x " + nextTurns.size());
-          System.out.println("  for player " + nextPlayer);
+          System.out.println("  for team " + nextTeam);
         }
         if (nextTurns.isEmpty()) {
-          allPaths.addAll(getAllPaths(boardCopy, null, depth + 1, parentPath));
+          allPaths.addAll(getAllPaths(board, null, depth + 1, parentPath));
         }
         else {
           // There are one or more next turns - add each one's path to the
@@ -310,17 +288,18 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
             if (DEBUG)
               System.out.println("Next turn = " + nextTurn);
             Path copyPath = (Path) parentPath.clone();
-            allPaths.addAll(getAllPaths(boardCopy, nextTurn, depth + 1, copyPath));
+            allPaths.addAll(getAllPaths(board, nextTurn, depth + 1, copyPath));
           }
         }
       }
       catch (CloneNotSupportedException ex) {
-        // Unexpected since BoardImpl implements Clonable
+        // Unexpected since Path implements Clonable
         throw new RuntimeException(ex);
       }
-      catch (IllegalMoveException ex) {
-        // Unexpected since the BoardImpl gave us the turn
-        throw new RuntimeException(ex);
+      finally {
+        // Take the turn back
+        if (record != null)
+          board.undo(record);
       }
     }
     
@@ -329,19 +308,19 @@ public class OldLookAheadAI extends AbstractPlayer implements ComputerPlayer {
   }
   
   /**
-   * Returns the player whose turn it is at the given search depth
+   * Returns the team whose turn it is at the given search depth
    * 
    * @param depth zero-index, alternating, zero is us
    * @return see above
    */
-  private Player getPlayer(int depth) {
+  private Team getTeam(int depth) {
     if (DEBUG)
-      System.out.println("Getting player at depth " + depth);
+      System.out.println("Getting team at depth " + depth);
     if (depth % 2 == 0) {
       // Even depth => our turn
-      return this;
+      return getTeam();
     }
     
-    return _opponent;
+    return Team.HUMANS.equals(getTeam()) ? Team.PREDATORS : Team.HUMANS;
   }
 }
@@ -0,0 +1,282 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.StringTokenizer;
+
+import tallyho.model.Board;
+import tallyho.model.Team;
+import tallyho.model.tile.Tile;
+import tallyho.model.turn.Flip;
+
+/**
+ * The value of flipping each square of a board on which every tile is still
+ * face-down, by board size. Until a tile is face up, a search can't tell one
+ * flip from another (every square could hide any of the same tiles), so
+ * rather than search the opening flip, an AI can look up the one that's done
+ * best in practice, as measured by {@link tallyho.batch.OpeningBookBuilder}.
+ * <p>
+ * Each value is the average net points that the team making the flip went on
+ * to score in the rest of the round, in hundredths of a point. The best
+ * square for each size is worked out when its values are set, so looking it
+ * up takes the same time however big the board. Once set, an instance can be
+ * shared between threads.
+ * <p>
+ * A book is saved as text: for each board size, a line with the size and the
+ * number of rounds the values come from, then one line of values for each
+ * row of the board ("-" for a square with no value). Lines starting with '#'
+ * are comments.
+ */
+public class OpeningBook {
+
+  // Constants
+  /**
+   * The name of the default book, as a resource at the root of the class
+   * path
+   */
+  public static final String DEFAULT_BOOK = "opening-book.txt";
+
+  /**
+   * The value of a square that was never flipped first, e.g. the empty
+   * centre square; saved as "-"
+   */
+  public static final int NO_VALUE = Integer.MIN_VALUE;
+
+  private static final int NO_SQUARE = -1;
+
+  private static OpeningBook defaultBook;
+  private static boolean defaultBookRead;
+
+  // Properties
+  // -- indexed by board size, then y * size + x; null if not in the book
+  private final int[][] values = new int[Board.MAX_SIZE + 1][];
+  private final int[] bestSquares = new int[Board.MAX_SIZE + 1];
+  private final int[] rounds = new int[Board.MAX_SIZE + 1];
+
+  /**
+   * Returns the default book, as built for the default board size, reading
+   * it the first time it's asked for. The instance is shared, so mustn't be
+   * changed.
+   *
+   * @return <code>null</code> if it can't be found or read
+   */
+  public static synchronized OpeningBook getDefault() {
+    if (!defaultBookRead) {
+      defaultBookRead = true;
+      InputStream input =
+        OpeningBook.class.getResourceAsStream("/" + DEFAULT_BOOK);
+      if (input != null) {
+        try {
+          try {
+            defaultBook = read(new InputStreamReader(input, "UTF-8"));
+          }
+          finally {
+            input.close();
+          }
+        }
+        catch (IOException ex) {
+          // Do without
+          defaultBook = null;
+        }
+      }
+    }
+    return defaultBook;
+  }
+
+  /**
+   * Reads a book saved by {@link #write(Writer)}
+   *
+   * @param reader the source of the book; isn't closed
+   * @return a non-<code>null</code> book
+   * @throws IOException if it can't be read, or isn't a valid book
+   */
+  public static OpeningBook read(Reader reader) throws IOException {
+    OpeningBook book = new OpeningBook();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = readLine(lines)) != null) {
+      StringTokenizer header = new StringTokenizer(line);
+      try {
+        int size = Integer.parseInt(header.nextToken());
+        int bookRounds = Integer.parseInt(header.nextToken());
+        if (size <= 0 || size > Board.MAX_SIZE)
+          throw new IOException("Invalid board size: " + size);
+        int[] bookValues = new int[size * size];
+        for (int y = 0; y < size; y++) {
+          String row = readLine(lines);
+          if (row == null)
+            throw new IOException("Missing row " + y + " for size " + size);
+          StringTokenizer tokens = new StringTokenizer(row);
+          for (int x = 0; x < size; x++) {
+            String value = tokens.nextToken();
+            bookValues[y * size + x] =
+              "-".equals(value) ? NO_VALUE : Integer.parseInt(value);
+          }
+        }
+        book.setValues(size, bookValues, bookRounds);
+      }
+      catch (RuntimeException ex) {
+        // e.g. a missing or non-numeric value
+        throw new IOException("Invalid opening book near: " + line, ex);
+      }
+    }
+    return book;
+  }
+
+  /**
+   * Returns the next line that isn't blank or a comment
+   *
+   * @param lines the source of the lines
+   * @return <code>null</code> at the end
+   * @throws IOException if the line can't be read
+   */
+  private static String readLine(BufferedReader lines) throws IOException {
+    String line;
+    do {
+      line = lines.readLine();
+    } while (line != null
+        && (line.trim().length() == 0 || line.startsWith("#")));
+    return line;
+  }
+
+  /**
+   * Saves this book in the form read by {@link #read(Reader)}
+   *
+   * @param writer where to save it; is flushed, but not closed
+   */
+  public void write(Writer writer) {
+    PrintWriter out = new PrintWriter(writer);
+    out.println("# Tally Ho opening book: for each board size, the net points");
+    out.println("# (in hundredths) scored in the rest of the round by the");
+    out.println("# team that flips each square of an all face-down board");
+    for (int size = 1; size <= Board.MAX_SIZE; size++) {
+      if (values[size] == null)
+        continue;
+      out.println(size + " " + rounds[size]);
+      for (int y = 0; y < size; y++) {
+        StringBuffer row = new StringBuffer();
+        for (int x = 0; x < size; x++) {
+          if (x > 0)
+            row.append(' ');
+          int value = values[size][y * size + x];
+          if (value == NO_VALUE)
+            row.append('-');
+          else
+            row.append(value);
+        }
+        out.println(row);
+      }
+    }
+    out.flush();
+  }
+
+  /**
+   * Sets the values of flipping each square of boards of the given size
+   *
+   * @param size the size of the board
+   * @param sizeValues the value of each square, indexed by y * size + x, in
+   *   hundredths of a point (or NO_VALUE); is copied
+   * @param sizeRounds the number of rounds the values come from
+   */
+  public void setValues(int size, int[] sizeValues, int sizeRounds) {
+    // Check input
+    if (size <= 0 || size > Board.MAX_SIZE)
+      throw new IllegalArgumentException("Invalid board size: " + size);
+    if (sizeValues == null || sizeValues.length != size * size)
+      throw new IllegalArgumentException("Need one value for each square");
+
+    int best = NO_SQUARE;
+    for (int square = 0; square < sizeValues.length; square++) {
+      if (sizeValues[square] != NO_VALUE
+          && (best == NO_SQUARE || sizeValues[square] > sizeValues[best]))
+      {
+        best = square;
+      }
+    }
+    values[size] = sizeValues.clone();
+    bestSquares[size] = best;
+    rounds[size] = sizeRounds;
+  }
+
+  /**
+   * Reports whether this book has values for boards of the given size
+   *
+   * @param size any number
+   * @return see above
+   */
+  public boolean hasSize(int size) {
+    return size > 0 && size <= Board.MAX_SIZE && values[size] != null;
+  }
+
+  /**
+   * Returns the value of flipping the given square first
+   *
+   * @param size the size of the board; must be in this book
+   * @param xPos zero-indexed
+   * @param yPos zero-indexed
+   * @return in hundredths of a point, or NO_VALUE if there's none
+   */
+  public int getValue(int size, int xPos, int yPos) {
+    if (!hasSize(size))
+      throw new IllegalArgumentException("No values for size " + size);
+    return values[size][yPos * size + xPos];
+  }
+
+  /**
+   * Returns the number of rounds the values for the given size come from
+   *
+   * @param size the size of the board; must be in this book
+   * @return zero or more
+   */
+  public int getRounds(int size) {
+    if (!hasSize(size))
+      throw new IllegalArgumentException("No values for size " + size);
+    return rounds[size];
+  }
+
+  /**
+   * Reports whether the given board is still in its opening, i.e. every tile
+   * on it is face down, so that nothing tells one flip from another
+   *
+   * @param board can't be <code>null</code>
+   * @return see above
+   */
+  public static boolean isOpening(Board board) {
+    // Every tile is worth something, so none is face up if none of their
+    // values is
+    for (Team team : Team.values()) {
+      if (board.getTileValue(team, true) > 0)
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the best flip for the given team to make, if the given board is
+   * still in its opening and this book covers it
+   *
+   * @param board can't be <code>null</code>
+   * @param team the team about to move
+   * @return <code>null</code> if the book doesn't say, e.g. the board isn't
+   *   in its opening, or the best square is empty on this board
+   */
+  public Flip getFlip(Board board, Team team) {
+    int size = board.getMaxIndex() + 1;
+    if (!hasSize(size) || bestSquares[size] == NO_SQUARE || !isOpening(board))
+      return null;
+    int xPos = bestSquares[size] % size;
+    int yPos = bestSquares[size] / size;
+    Tile tile = board.getTile(xPos, yPos);
+    if (tile == null)
+      return null;
+    return new Flip(team, xPos, yPos, tile);
+  }
+}
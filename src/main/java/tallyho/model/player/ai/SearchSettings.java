@@ -0,0 +1,207 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The options for searching a MinMaxTreeImpl, other than how deep to look.
+ * The defaults are to consider the default number of outcomes for each Flip,
+ * with no transposition table, no time limit, no parallelism (one thread,
+ * and no pool), no evaluator (so only the points scored count), and nothing
+ * to stop the search early.
+ */
+public class SearchSettings {
+
+  // Properties
+  private int chanceOutcomes = MinMaxTreeImpl.DEFAULT_CHANCE_OUTCOMES;
+  private TranspositionTable table;
+  private long timeLimit;
+  private ForkJoinPool pool;
+  private int threads = 1;
+  private Evaluator evaluator;
+  private AtomicBoolean stopFlag;
+  private boolean newSearch = true;
+
+  /**
+   * Returns the maximum number of kinds of tile to consider revealing with
+   * each Flip
+   *
+   * @return zero means search the tile actually there
+   */
+  public int getChanceOutcomes() {
+    return chanceOutcomes;
+  }
+
+  /**
+   * Sets the maximum number of kinds of tile to consider revealing with each
+   * Flip
+   *
+   * @param chanceOutcomes zero means search the tile actually there; can't be
+   *   negative
+   */
+  public void setChanceOutcomes(int chanceOutcomes) {
+    if (chanceOutcomes < 0) {
+      throw new IllegalArgumentException(
+          "Chance outcomes must be zero or greater");
+    }
+    this.chanceOutcomes = chanceOutcomes;
+  }
+
+  /**
+   * Returns the transposition table in which to look up and record positions
+   *
+   * @return <code>null</code> for none
+   */
+  public TranspositionTable getTable() {
+    return table;
+  }
+
+  /**
+   * Sets the transposition table in which to look up and record positions.
+   * If shared between searches, they must all use the same number of chance
+   * outcomes and the same evaluator.
+   *
+   * @param table <code>null</code> for none
+   */
+  public void setTable(TranspositionTable table) {
+    this.table = table;
+  }
+
+  /**
+   * Returns the number of milliseconds after which to stop looking further
+   * ahead
+   *
+   * @return zero means search to full depth however long it takes
+   */
+  public long getTimeLimit() {
+    return timeLimit;
+  }
+
+  /**
+   * Sets the number of milliseconds after which to stop looking further ahead
+   *
+   * @param timeLimit zero means search to full depth however long it takes;
+   *   can't be negative
+   */
+  public void setTimeLimit(long timeLimit) {
+    if (timeLimit < 0) {
+      throw new IllegalArgumentException("Time limit can't be negative");
+    }
+    this.timeLimit = timeLimit;
+  }
+
+  /**
+   * Returns the pool of threads across which to split the next turns
+   *
+   * @return <code>null</code> to search them one at a time on the calling
+   *   thread
+   */
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  /**
+   * Sets the pool of threads across which to split the next turns
+   *
+   * @param pool <code>null</code> to search them one at a time on the calling
+   *   thread
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Returns the number of threads that search the whole tree at once
+   *
+   * @return one for the main search only, or more for helper threads too
+   */
+  public int getThreads() {
+    return threads;
+  }
+
+  /**
+   * Sets the number of threads that search the whole tree at once. The main
+   * search is always one of them; the others are helpers that only share
+   * what they find through the transposition table, so a table is needed if
+   * there are any. The helpers run in the pool (or the common pool if there
+   * isn't one), so a pool needs at least this many threads.
+   *
+   * @param threads at least one
+   */
+  public void setThreads(int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Must search on at least one thread");
+    }
+    this.threads = threads;
+  }
+
+  /**
+   * Returns the evaluator of the positions where the search stops looking
+   * ahead
+   *
+   * @return <code>null</code> if those positions are worth nothing more than
+   *   the points scored getting there
+   */
+  public Evaluator getEvaluator() {
+    return evaluator;
+  }
+
+  /**
+   * Sets the evaluator of the positions where the search stops looking ahead
+   *
+   * @param evaluator <code>null</code> if those positions are worth nothing
+   *   more than the points scored getting there
+   */
+  public void setEvaluator(Evaluator evaluator) {
+    this.evaluator = evaluator;
+  }
+
+  /**
+   * Returns the flag that stops the search when set
+   *
+   * @return <code>null</code> if only the time limit (if any) stops it
+   */
+  public AtomicBoolean getStopFlag() {
+    return stopFlag;
+  }
+
+  /**
+   * Sets a flag that stops the search when set (e.g. from another thread),
+   * as if its time had run out. The search is then one turn deeper at a
+   * time, even with no time limit, so as to keep what it found looking less
+   * far ahead; if it's stopped before it's looked at every next turn, it
+   * has no best turn.
+   *
+   * @param stopFlag <code>null</code> if only the time limit (if any) stops
+   *   the search
+   */
+  public void setStopFlag(AtomicBoolean stopFlag) {
+    this.stopFlag = stopFlag;
+  }
+
+  /**
+   * Reports whether the search starts a new search in its table
+   *
+   * @return see {@link #setNewSearch(boolean)}
+   */
+  public boolean isNewSearch() {
+    return newSearch;
+  }
+
+  /**
+   * Sets whether the search starts a new search in its table, so that
+   * entries from earlier searches are the first to be replaced. Several
+   * searches done for the same purpose (e.g. pondering each of the
+   * opponent's replies) can share one search instead, so that what the
+   * first ones found is kept as long as what the last ones did.
+   *
+   * @param newSearch <code>false</code> to carry on the table's current
+   *   search; <code>true</code> by default
+   */
+  public void setNewSearch(boolean newSearch) {
+    this.newSearch = newSearch;
+  }
+}
@@ -31,7 +31,7 @@ public class ShortSightedAI extends AbstractPlayer implements ComputerPlayer {
 
     // Return a random selection from the highest scoring turns
     // ComputerHelper.debugTurns(highestScoringTurns);
-    Collections.shuffle(highestScoringTurns);
+    Collections.shuffle(highestScoringTurns, board.getRandom());
     return (Turn) highestScoringTurns.get(0);
   }
 
@@ -0,0 +1,222 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size cache of search results, keyed on the positions' hashes, so
+ * that a position reached by different orders of turns is only searched once.
+ * <p>
+ * Each entry records how deep the position was searched, its value, whether
+ * that value is exact or only a bound (because the search was cut off), and
+ * the index of the best turn found there. Entries are packed into pairs of
+ * longs; the key is stored XORed with the data, so that an entry that's been
+ * half-overwritten simply fails to match. This makes it safe for several
+ * threads to share a table without locking it.
+ * <p>
+ * Each hash maps to a bucket of two entries. A new entry replaces one for the
+ * same position, otherwise whichever of the two is from an older search or
+ * else was searched less deeply.
+ */
+public class TranspositionTable {
+
+  // Constants
+  /**
+   * The value is exact
+   */
+  static final int EXACT = 0;
+
+  /**
+   * The value is a lower bound, i.e. the search was cut off by a good turn
+   */
+  static final int LOWER_BOUND = 1;
+
+  /**
+   * The value is an upper bound, i.e. no turn beat the lower search bound
+   */
+  static final int UPPER_BOUND = 2;
+
+  /**
+   * The best turn index recorded when there isn't one
+   */
+  static final int NO_BEST_TURN = 0xFFF;
+
+  // -- the bytes taken by each entry
+  private static final int ENTRY_BYTES = 16;
+  private static final int BUCKET_SIZE = 2;
+
+  // -- layout of the data: value, depth, bound, best turn, age, valid flag
+  private static final int DEPTH_SHIFT = 32;
+  private static final int BOUND_SHIFT = 40;
+  private static final int BEST_TURN_SHIFT = 42;
+  private static final int AGE_SHIFT = 54;
+  private static final long VALID = 1L << 63;
+  private static final int MAX_DEPTH = 0xFF;
+  private static final int AGES = 0x100;
+
+  // Properties
+  private final long[] keys;
+  private final long[] data;
+  private final int bucketMask;
+  private int age;
+
+  /**
+   * Constructor
+   *
+   * @param megabytes the most memory the table may use; must be at least one.
+   *   The table is the biggest power of two entries that fits.
+   */
+  public TranspositionTable(int megabytes) {
+    if (megabytes < 1) {
+      throw new IllegalArgumentException("Table must be at least 1 MB");
+    }
+    long maxEntries = (long) megabytes * 1024 * 1024 / ENTRY_BYTES;
+    int entries = Integer.highestOneBit((int) Math.min(maxEntries, 1 << 30));
+    keys = new long[entries];
+    data = new long[entries];
+    bucketMask = entries / BUCKET_SIZE - 1;
+  }
+
+  /**
+   * Returns the number of entries this table can hold
+   *
+   * @return a power of two
+   */
+  public int getCapacity() {
+    return keys.length;
+  }
+
+  /**
+   * Starts a new search, so that entries from previous ones are replaced in
+   * preference to those from this one
+   */
+  public void newSearch() {
+    age = (age + 1) % AGES;
+  }
+
+  /**
+   * Empties the table
+   */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    Arrays.fill(data, 0);
+  }
+
+  /**
+   * Looks up the given position
+   *
+   * @param key the position's hash
+   * @return the packed entry, or zero if there isn't one; see the static
+   *   methods for unpacking it
+   */
+  long probe(long key) {
+    int index = getBucket(key);
+    for (int i = index; i < index + BUCKET_SIZE; i++) {
+      long entryData = data[i];
+      if ((keys[i] ^ entryData) == key && (entryData & VALID) != 0)
+        return entryData;
+    }
+    return 0;
+  }
+
+  /**
+   * Records the result of searching the given position
+   *
+   * @param key the position's hash
+   * @param depth how deep it was searched; zero or more
+   * @param bound whether the value is exact or a bound
+   * @param value the value found
+   * @param bestTurn the index of the best turn found, or NO_BEST_TURN
+   */
+  void store(long key, int depth, int bound, int value, int bestTurn) {
+    long entryData = VALID
+      | ((long) age << AGE_SHIFT)
+      | ((long) Math.min(bestTurn, NO_BEST_TURN) << BEST_TURN_SHIFT)
+      | ((long) bound << BOUND_SHIFT)
+      | ((long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT)
+      | (value & 0xFFFFFFFFL);
+    int index = getBucket(key);
+    int replace = index;
+    int worstPriority = Integer.MAX_VALUE;
+    for (int i = index; i < index + BUCKET_SIZE; i++) {
+      long oldData = data[i];
+      if ((keys[i] ^ oldData) == key || (oldData & VALID) == 0) {
+        // Same position, or an empty slot
+        replace = i;
+        break;
+      }
+      int priority = getDepth(oldData);
+      if (isCurrent(oldData))
+        priority += MAX_DEPTH + 1;
+      if (priority < worstPriority) {
+        worstPriority = priority;
+        replace = i;
+      }
+    }
+    data[replace] = entryData;
+    keys[replace] = key ^ entryData;
+  }
+
+  /**
+   * Returns the index of the first entry in the given position's bucket
+   *
+   * @param key the position's hash
+   * @return see above
+   */
+  private int getBucket(long key) {
+    return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_SIZE;
+  }
+
+  /**
+   * @param entry a packed entry
+   * @return the value it records
+   */
+  static int getValue(long entry) {
+    return (int) entry;
+  }
+
+  /**
+   * @param entry a packed entry
+   * @return how deep the position was searched
+   */
+  static int getDepth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+  }
+
+  /**
+   * @param entry a packed entry
+   * @return one of EXACT, LOWER_BOUND, or UPPER_BOUND
+   */
+  static int getBound(long entry) {
+    return (int) (entry >>> BOUND_SHIFT) & 0x3;
+  }
+
+  /**
+   * @param entry a packed entry
+   * @return the index of the best turn, or NO_BEST_TURN
+   */
+  static int getBestTurn(long entry) {
+    return (int) (entry >>> BEST_TURN_SHIFT) & NO_BEST_TURN;
+  }
+
+  /**
+   * Reports whether the given entry was stored since the last call to
+   * {@link #newSearch()}
+   *
+   * @param entry a packed entry
+   * @return see above
+   */
+  boolean isCurrent(long entry) {
+    return getAge(entry) == age;
+  }
+
+  /**
+   * @param entry a packed entry
+   * @return the search in which it was stored
+   */
+  private static int getAge(long entry) {
+    return (int) (entry >>> AGE_SHIFT) & (AGES - 1);
+  }
+}
@@ -3,8 +3,10 @@
  */
 package tallyho.model.tile;
 
+import tallyho.model.Team;
+
 /**
- * Default implementation of a Tile
+ * Default implementation of a Tile, which takes its behaviour from its kind
  */
 public abstract class AbstractTile implements Tile, Cloneable {
 
@@ -31,7 +33,49 @@ public abstract class AbstractTile implements Tile, Cloneable {
   public void setFaceUp() {
     isFaceUp = true;
   }
+
+  /**
+   * @see tallyho.model.tile.Tile#setFaceDown()
+   */
+  public void setFaceDown() {
+    isFaceUp = false;
+  }
   
+  /**
+   * @see tallyho.model.tile.Tile#canCapture(tallyho.model.tile.Tile)
+   */
+  public boolean canCapture(Tile otherTile) {
+    return otherTile != null && getKind().canCapture(otherTile.getKind());
+  }
+
+  /**
+   * @see tallyho.model.tile.Tile#getPrey()
+   */
+  public Class[] getPrey() {
+    return getKind().getPrey();
+  }
+
+  /**
+   * @see tallyho.model.tile.Tile#getRange()
+   */
+  public int getRange() {
+    return getKind().getRange();
+  }
+
+  /**
+   * @see tallyho.model.tile.Tile#getTeam()
+   */
+  public Team getTeam() {
+    return getKind().getTeam();
+  }
+
+  /**
+   * @see tallyho.model.tile.Tile#getValue()
+   */
+  public int getValue() {
+    return getKind().getValue();
+  }
+
   /**
    * Returns the display name of this tile
    * 
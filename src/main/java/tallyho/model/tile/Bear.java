@@ -15,34 +15,10 @@ public final class Bear extends Predator {
     super();
 	}
 
-	/**
-	 * @see tallyho.model.tile.Tile#getRange()
-	 */
-	public int getRange() {
-		return 1;
-	}
-
-	/**
-	 * @see tallyho.model.tile.Tile#getValue()
-	 */
-	public int getValue() {
-		return 10;
-	}
-
-	/**
-	 * @see tallyho.model.tile.Tile#getPrey()
-	 */
-	public Class[] getPrey() {
-		Class[] prey = new Class[1];
-		prey[0] = Human.class;
-		return prey;
-	}
-
   /**
-   * @see tallyho.model.tile.Tile#canCapture(tallyho.model.tile.Tile)
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public boolean canCapture(Tile otherTile) {
-    // Bears can only capture Humans
-    return otherTile instanceof Human;
+  public TileKind getKind() {
+    return TileKind.BEAR;
   }
-}
\ No newline at end of file
+}
@@ -16,9 +16,9 @@ public final class Duck extends Bird {
   }
 
   /**
-   * @see tallyho.model.tile.Tile#getValue()
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public int getValue() {
-    return 2;
+  public TileKind getKind() {
+    return TileKind.DUCK;
   }
-}
\ No newline at end of file
+}
@@ -16,33 +16,9 @@ public final class Fox extends Predator {
   }
 
   /**
-   * @see tallyho.model.tile.Tile#getRange()
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public int getRange() {
-      return Integer.MAX_VALUE;
-  }
-
-  /**
-   * @see tallyho.model.tile.Tile#getValue()
-   */
-  public int getValue() {
-      return 5;
-  }
-
-  /**
-   * @see tallyho.model.tile.Tile#getPrey()
-   */
-  public Class[] getPrey() {
-      Class[] prey = new Class[1];
-      prey[0] = Bird.class;
-      return prey;
-  }
-
-  /**
-   * @see tallyho.model.tile.Tile#canCapture(tallyho.model.tile.Tile)
-   */
-  public boolean canCapture(Tile otherTile) {
-      // Foxes can only capture Birds
-      return otherTile instanceof Bird;
+  public TileKind getKind() {
+    return TileKind.FOX;
   }
 }
@@ -3,24 +3,9 @@
  */
 package tallyho.model.tile;
 
-import tallyho.model.Team;
-
 /**
  * Abstract model for a human in Tally Ho
  */
 public abstract class Human extends AbstractTile {
-
-  /**
-   * @see Tile#getTeam()
-   */
-	public Team getTeam() {
-		return Team.HUMANS;
-	}
-
-  /**
-   * @see Tile#getValue()
-   */
-	public int getValue() {
-		return 5;
-	}
+  // Everything comes from the tile's kind
 }
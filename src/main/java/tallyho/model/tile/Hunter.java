@@ -3,55 +3,55 @@
  */
 package tallyho.model.tile;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Implements the Hunter tile
  */
 public final class Hunter extends Human implements Directional {
 
   // Properties
-  private final int direction;
+  private final TileKind kind;
   
   /**
-   * Constructor
+   * Constructor for a hunter facing a random direction
    */
 	public Hunter() {
-    // Pick a random direction
-    direction = ((int) (Math.random() * DIRECTIONS.length)) + 1;
+    this(ThreadLocalRandom.current());
 	}
 
-	/**
-	 * @see tallyho.model.tile.Tile#getRange()
-	 */
-	public int getRange() {
-		return Integer.MAX_VALUE;
-	}
-
-	/**
-	 * @see tallyho.model.tile.Tile#getPrey()
-	 */
-	public Class[] getPrey() {
-		Class[] prey = new Class[2];
-    prey[0] = Bird.class;
-		prey[1] = Predator.class;
-		return prey;
-	}
+  /**
+   * Constructor
+   * 
+   * @param random the source from which to pick the direction the hunter
+   *   faces; can't be <code>null</code>
+   */
+  public Hunter(Random random) {
+    // Pick a random direction
+    this(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+  }
 
   /**
-   * @see tallyho.model.tile.Tile#canCapture(tallyho.model.tile.Tile)
+   * Constructor for a hunter facing the given direction
+   * 
+   * @param direction one of the constants in {@link Directional}
    */
-  public boolean canCapture(Tile otherTile) {
-    if (otherTile == null) {
-      return false;
-    }
+  public Hunter(int direction) {
+    kind = TileKind.getHunter(direction);
+  }
 
-    // Hunters can capture any predator or bird
-    return (otherTile instanceof Predator) || (otherTile instanceof Bird);
+  /**
+   * @see tallyho.model.tile.Tile#getKind()
+   */
+  public TileKind getKind() {
+    return kind;
   }
 
   /**
    * @see tallyho.model.tile.Directional#getDirection()
    */
   public int getDirection() {
-    return direction;
+    return kind.getDirection();
   }
 }
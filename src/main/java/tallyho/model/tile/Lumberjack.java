@@ -15,27 +15,10 @@ public final class Lumberjack extends Human {
     super();
 	}
 
-	/**
-	 * @see tallyho.model.tile.Tile#getRange()
-	 */
-	public int getRange() {
-		return 1;
-	}
-
-	/**
-	 * @see tallyho.model.tile.Tile#getPrey()
-	 */
-	public Class[] getPrey() {
-        Class[] prey = new Class[1];
-        prey[0] = Tree.class;
-		return prey;
-	}
-
   /**
-   * @see tallyho.model.tile.Tile#canCapture(tallyho.model.tile.Tile)
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public boolean canCapture(Tile otherTile) {
-    // Lumberjacks can only capture trees
-    return otherTile instanceof Tree;
+  public TileKind getKind() {
+    return TileKind.LUMBERJACK;
   }
 }
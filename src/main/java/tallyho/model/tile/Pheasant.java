@@ -16,9 +16,9 @@ public final class Pheasant extends Bird {
   }
 
   /**
-   * @see tallyho.model.tile.Tile#getValue()
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public int getValue() {
-    return 3;
+  public TileKind getKind() {
+    return TileKind.PHEASANT;
   }
 }
@@ -19,6 +19,14 @@ public interface Tile {
    */
   boolean canCapture(Tile otherTile);
     
+  /**
+   * Returns the kind of this tile, which is shared by every tile that behaves
+   * the same way
+   * 
+   * @return a non-<code>null</code> TileKind
+   */
+  TileKind getKind();
+
   /**
    * Returns the display name of this tile
    * 
@@ -27,7 +35,8 @@ public interface Tile {
   String getName();
   
 	/**
-	 * Returns the types of tile that this tile can "eat"
+	 * Returns the types of tile that this tile can "eat". The array is shared
+	 * by every tile of this kind, so mustn't be changed.
 	 * 
 	 * @return an array of Classes that implement the Tile interface
 	 */
@@ -65,4 +74,10 @@ public interface Tile {
    * If this tile is face down, turns it face up
    */
   void setFaceUp();
+
+  /**
+   * If this tile is face up, turns it face down again. Only for taking back a
+   * flip, e.g. when an AI is looking ahead.
+   */
+  void setFaceDown();
 }
\ No newline at end of file
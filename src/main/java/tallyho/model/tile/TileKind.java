@@ -0,0 +1,229 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.tile;
+
+import tallyho.model.Team;
+
+/**
+ * The kinds of tile, a Hunter's direction being part of its kind. Every tile
+ * of a kind behaves the same, so each kind is a single shared, immutable
+ * object holding that behaviour: the team, range and value, and what it can
+ * capture, as a mask of the other kinds. The tiles themselves only add their
+ * identity on the board and whether they're face-up.
+ */
+public enum TileKind {
+
+  /**
+   * A Bear
+   */
+  BEAR(Bear.class, Team.PREDATORS, 1, 10, 0, Human.class),
+
+  /**
+   * A Fox
+   */
+  FOX(Fox.class, Team.PREDATORS, Integer.MAX_VALUE, 5, 0, Bird.class),
+
+  /**
+   * A Hunter facing large values of X
+   */
+  HUNTER_BIG_X(Hunter.class, Team.HUMANS, Integer.MAX_VALUE, 5,
+      Directional.BIG_X, Bird.class, Predator.class),
+
+  /**
+   * A Hunter facing large values of Y
+   */
+  HUNTER_BIG_Y(Hunter.class, Team.HUMANS, Integer.MAX_VALUE, 5,
+      Directional.BIG_Y, Bird.class, Predator.class),
+
+  /**
+   * A Hunter facing small values of X
+   */
+  HUNTER_SMALL_X(Hunter.class, Team.HUMANS, Integer.MAX_VALUE, 5,
+      Directional.SMALL_X, Bird.class, Predator.class),
+
+  /**
+   * A Hunter facing small values of Y
+   */
+  HUNTER_SMALL_Y(Hunter.class, Team.HUMANS, Integer.MAX_VALUE, 5,
+      Directional.SMALL_Y, Bird.class, Predator.class),
+
+  /**
+   * A Lumberjack
+   */
+  LUMBERJACK(Lumberjack.class, Team.HUMANS, 1, 5, 0, Tree.class),
+
+  /**
+   * A Pheasant
+   */
+  PHEASANT(Pheasant.class, Team.NEUTRAL, Integer.MAX_VALUE, 3, 0),
+
+  /**
+   * A Duck
+   */
+  DUCK(Duck.class, Team.NEUTRAL, Integer.MAX_VALUE, 2, 0),
+
+  /**
+   * A Tree
+   */
+  TREE(Tree.class, Team.NEUTRAL, 0, 2, 0);
+
+  // Properties
+  private final Class<?> tileClass;
+  private final Team team;
+  private final int range;
+  private final int value;
+  private final int direction;
+  private final int captureStepX;
+  private final int captureStepY;
+  private final Class<?>[] prey;
+  private int preyMask;   // bit i is set if this kind can capture kind i
+
+  static {
+    // Work out the prey masks now that all the kinds exist
+    for (TileKind kind : values()) {
+      for (TileKind other : values()) {
+        for (int i = 0; i < kind.prey.length; i++) {
+          if (kind.prey[i].isAssignableFrom(other.tileClass))
+            kind.preyMask |= 1 << other.ordinal();
+        }
+      }
+    }
+  }
+
+  /**
+   * Constructor
+   *
+   * @param tileClass the class of the tiles of this kind
+   * @param team the team that tiles of this kind belong to
+   * @param range how many squares tiles of this kind can move
+   * @param value the point value of tiles of this kind
+   * @param direction the direction tiles of this kind face, as per
+   *   {@link Directional}, or zero if they don't
+   * @param prey the classes of tile that tiles of this kind can capture
+   */
+  private TileKind(Class<?> tileClass, Team team, int range, int value,
+      int direction, Class<?>... prey)
+  {
+    this.tileClass = tileClass;
+    this.team = team;
+    this.range = range;
+    this.value = value;
+    this.direction = direction;
+    this.prey = prey;
+    switch (direction) {
+      case Directional.BIG_X:
+        captureStepX = 1;
+        captureStepY = 0;
+        break;
+      case Directional.BIG_Y:
+        captureStepX = 0;
+        captureStepY = 1;
+        break;
+      case Directional.SMALL_X:
+        captureStepX = -1;
+        captureStepY = 0;
+        break;
+      case Directional.SMALL_Y:
+        captureStepX = 0;
+        captureStepY = -1;
+        break;
+      default:
+        captureStepX = 0;
+        captureStepY = 0;
+    }
+  }
+
+  /**
+   * Returns the kind of a Hunter facing the given direction
+   *
+   * @param direction one of the constants in {@link Directional}
+   * @return see above
+   */
+  public static TileKind getHunter(int direction) {
+    switch (direction) {
+      case Directional.BIG_X:
+        return HUNTER_BIG_X;
+      case Directional.BIG_Y:
+        return HUNTER_BIG_Y;
+      case Directional.SMALL_X:
+        return HUNTER_SMALL_X;
+      case Directional.SMALL_Y:
+        return HUNTER_SMALL_Y;
+      default:
+        throw new IllegalArgumentException("Invalid direction: " + direction);
+    }
+  }
+
+  /**
+   * Returns the team that tiles of this kind belong to
+   *
+   * @return a non-<code>null</code> Team
+   */
+  public Team getTeam() {
+    return team;
+  }
+
+  /**
+   * Returns how many squares tiles of this kind can move
+   *
+   * @return a number from 0 to Integer.MAX_VALUE (meaning no limit)
+   */
+  public int getRange() {
+    return range;
+  }
+
+  /**
+   * Returns the point value of tiles of this kind
+   *
+   * @return see above
+   */
+  public int getValue() {
+    return value;
+  }
+
+  /**
+   * Returns the direction tiles of this kind face
+   *
+   * @return one of the constants in {@link Directional}, or zero if tiles of
+   *   this kind don't face any particular way
+   */
+  public int getDirection() {
+    return direction;
+  }
+
+  /**
+   * Returns the types of tile that tiles of this kind can capture. The array
+   * is shared, so mustn't be changed.
+   *
+   * @return an array of Classes that implement the Tile interface
+   */
+  Class<?>[] getPrey() {
+    return prey;
+  }
+
+  /**
+   * Reports whether tiles of this kind can capture tiles of the given kind,
+   * moving in any direction
+   *
+   * @param other can be <code>null</code>
+   * @return false if the given kind is <code>null</code>
+   */
+  public boolean canCapture(TileKind other) {
+    return other != null && (preyMask & (1 << other.ordinal())) != 0;
+  }
+
+  /**
+   * Reports whether tiles of this kind can capture tiles of the given kind by
+   * moving in the given direction
+   *
+   * @param other can be <code>null</code>
+   * @param stepX -1, 0, or 1
+   * @param stepY -1, 0, or 1 (zero if stepX isn't)
+   * @return false if the given kind is <code>null</code>
+   */
+  public boolean canCapture(TileKind other, int stepX, int stepY) {
+    return canCapture(other) && (direction == 0
+        || (stepX == captureStepX && stepY == captureStepY));
+  }
+}
@@ -16,16 +16,9 @@ public final class Tree extends NeutralTile {
   }
 
   /**
-   * @see tallyho.model.tile.Tile#getRange()
+   * @see tallyho.model.tile.Tile#getKind()
    */
-  public int getRange() {
-    return 0;
+  public TileKind getKind() {
+    return TileKind.TREE;
   }
-
-  /**
-   * @see tallyho.model.tile.Tile#getValue()
-   */
-  public int getValue() {
-    return 2;
-  }
-}
\ No newline at end of file
+}
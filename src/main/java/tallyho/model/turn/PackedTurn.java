@@ -0,0 +1,344 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.turn;
+
+import tallyho.model.Team;
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
+
+/**
+ * Encodes turns as single ints, so that a search can generate and make
+ * millions of them without creating an object for each. Turn objects need
+ * only be made for the turn finally chosen.
+ * <p>
+ * The bits of an encoded turn are, from the lowest: the type (3 bits), the
+ * team (1 bit), the "from" x and y (5 bits each), the "to" x and y plus one
+ * (5 bits each, as a rescue goes one square off the board), and the score
+ * (6 bits). A Flip keeps the kind of tile it reveals, plus one, in place of
+ * its "to" x, zero meaning whatever tile is there.
+ */
+public final class PackedTurn {
+
+  // Constants
+  /**
+   * Not a turn, e.g. where there's no best turn to remember
+   */
+  public static final int NONE = 0;
+
+  // -- Types of turn
+  private static final int
+    FLIP = 1,
+    MOVE = 2,
+    RESCUE = 3,
+    PASS = 4;
+
+  // -- Where each field starts, and how many bits it has
+  private static final int
+    TYPE_SHIFT = 0,
+    TEAM_SHIFT = 3,
+    FROM_X_SHIFT = 4,
+    FROM_Y_SHIFT = 9,
+    TO_X_SHIFT = 14,
+    TO_Y_SHIFT = 19,
+    SCORE_SHIFT = 24,
+    TYPE_MASK = 0x7,
+    COORD_MASK = 0x1F,
+    SCORE_MASK = 0x3F;
+
+  private static final TileKind[] KINDS = TileKind.values();
+
+  /**
+   * Constructor - not for instantiation
+   */
+  private PackedTurn() {
+    // Empty
+  }
+
+  /**
+   * Encodes a Flip
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param x the x-coordinate of the flipped tile, zero-indexed
+   * @param y the y-coordinate of the flipped tile, zero-indexed
+   * @param kind the kind of tile supposed to be revealed; <code>null</code>
+   *   for whatever tile is there
+   * @return see above
+   */
+  public static int flip(Team team, int x, int y, TileKind kind) {
+    int kindCode = (kind == null) ? 0 : kind.ordinal() + 1;
+    return encode(FLIP, team, x, y, kindCode, 0, 0);
+  }
+
+  /**
+   * Encodes a Move of a tile from one square on the board to another
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param fromX zero-indexed
+   * @param fromY zero-indexed
+   * @param toX zero-indexed
+   * @param toY zero-indexed
+   * @param score the points scored by the move
+   * @return see above
+   */
+  public static int move(
+      Team team, int fromX, int fromY, int toX, int toY, int score)
+  {
+    return encode(MOVE, team, fromX, fromY, toX + 1, toY + 1, score);
+  }
+
+  /**
+   * Encodes a Rescue, i.e. a move of a tile off the board
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param fromX zero-indexed
+   * @param fromY zero-indexed
+   * @param toX -1 or the size of the board if off that side
+   * @param toY -1 or the size of the board if off that side
+   * @param score the points scored by the rescue
+   * @return see above
+   */
+  public static int rescue(
+      Team team, int fromX, int fromY, int toX, int toY, int score)
+  {
+    return encode(RESCUE, team, fromX, fromY, toX + 1, toY + 1, score);
+  }
+
+  /**
+   * Encodes a Pass
+   *
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return see above
+   */
+  public static int pass(Team team) {
+    return encode(PASS, team, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * Encodes the given turn
+   *
+   * @param turn a Flip, Move, Rescue or Pass; can't be <code>null</code>
+   * @return see above
+   */
+  public static int pack(Turn turn) {
+    if (turn instanceof Flip) {
+      Flip flip = (Flip) turn;
+      Tile tile = flip.getTile();
+      return flip(flip.getTeam(), flip.getX(), flip.getY(),
+          (tile == null) ? null : tile.getKind());
+    }
+    if (turn instanceof Move) {
+      Move move = (Move) turn;
+      if (move instanceof Rescue) {
+        return rescue(move.getTeam(), move.getFromX(), move.getFromY(),
+            move.getToX(), move.getToY(), move.getScore());
+      }
+      return move(move.getTeam(), move.getFromX(), move.getFromY(),
+          move.getToX(), move.getToY(), move.getScore());
+    }
+    if (turn instanceof Pass)
+      return pass(turn.getTeam());
+    throw new IllegalArgumentException("Unknown kind of turn: " + turn);
+  }
+
+  /**
+   * Returns the given turn as a Turn object
+   *
+   * @param turn an encoded turn
+   * @param flippedTile the tile revealed, if the turn is a Flip
+   * @return a new Flip, Move, Rescue or Pass
+   */
+  public static Turn toTurn(int turn, Tile flippedTile) {
+    Team team = getTeam(turn);
+    switch (getType(turn)) {
+      case FLIP:
+        return new Flip(team, getX(turn), getY(turn), flippedTile);
+      case MOVE:
+        return new Move(team, getFromX(turn), getFromY(turn), getToX(turn),
+            getToY(turn), getScore(turn));
+      case RESCUE:
+        return new Rescue(team, getFromX(turn), getFromY(turn), getToX(turn),
+            getToY(turn), getScore(turn));
+      case PASS:
+        return new Pass(team);
+      default:
+        throw new IllegalArgumentException("Not a turn: " + turn);
+    }
+  }
+
+  /**
+   * Packs the given fields into an int
+   *
+   * @param type the type of turn
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @param fromX from 0 to 31
+   * @param fromY from 0 to 31
+   * @param toX from 0 to 31
+   * @param toY from 0 to 31
+   * @param score from 0 to 63
+   * @return see above
+   */
+  private static int encode(int type, Team team, int fromX, int fromY,
+      int toX, int toY, int score)
+  {
+    int teamBit;
+    if (Team.HUMANS.equals(team))
+      teamBit = 0;
+    else if (Team.PREDATORS.equals(team))
+      teamBit = 1;
+    else
+      throw new IllegalArgumentException("Invalid team: " + team);
+    return (type << TYPE_SHIFT) | (teamBit << TEAM_SHIFT)
+      | (fromX << FROM_X_SHIFT) | (fromY << FROM_Y_SHIFT)
+      | (toX << TO_X_SHIFT) | (toY << TO_Y_SHIFT) | (score << SCORE_SHIFT);
+  }
+
+  /**
+   * Returns the type of the given turn
+   *
+   * @param turn an encoded turn
+   * @return one of the type constants in this class
+   */
+  private static int getType(int turn) {
+    return (turn >>> TYPE_SHIFT) & TYPE_MASK;
+  }
+
+  /**
+   * Reports whether the given turn is a Flip
+   *
+   * @param turn an encoded turn
+   * @return see above
+   */
+  public static boolean isFlip(int turn) {
+    return getType(turn) == FLIP;
+  }
+
+  /**
+   * Reports whether the given turn is a Move (including a Rescue)
+   *
+   * @param turn an encoded turn
+   * @return see above
+   */
+  public static boolean isMove(int turn) {
+    int type = getType(turn);
+    return type == MOVE || type == RESCUE;
+  }
+
+  /**
+   * Reports whether the given turn is a Rescue
+   *
+   * @param turn an encoded turn
+   * @return see above
+   */
+  public static boolean isRescue(int turn) {
+    return getType(turn) == RESCUE;
+  }
+
+  /**
+   * Returns the team making the given turn
+   *
+   * @param turn an encoded turn
+   * @return Team.HUMANS or Team.PREDATORS
+   */
+  public static Team getTeam(int turn) {
+    if (((turn >>> TEAM_SHIFT) & 1) == 0)
+      return Team.HUMANS;
+    return Team.PREDATORS;
+  }
+
+  /**
+   * Returns the x-coordinate of the tile flipped or moved
+   *
+   * @param turn an encoded Flip or Move
+   * @return zero-indexed
+   */
+  public static int getFromX(int turn) {
+    return (turn >>> FROM_X_SHIFT) & COORD_MASK;
+  }
+
+  /**
+   * Returns the y-coordinate of the tile flipped or moved
+   *
+   * @param turn an encoded Flip or Move
+   * @return zero-indexed
+   */
+  public static int getFromY(int turn) {
+    return (turn >>> FROM_Y_SHIFT) & COORD_MASK;
+  }
+
+  /**
+   * Returns the x-coordinate of the flipped tile; the same as
+   * {@link #getFromX(int)}
+   *
+   * @param turn an encoded Flip
+   * @return zero-indexed
+   */
+  public static int getX(int turn) {
+    return getFromX(turn);
+  }
+
+  /**
+   * Returns the y-coordinate of the flipped tile; the same as
+   * {@link #getFromY(int)}
+   *
+   * @param turn an encoded Flip
+   * @return zero-indexed
+   */
+  public static int getY(int turn) {
+    return getFromY(turn);
+  }
+
+  /**
+   * Returns the x-coordinate the tile is moved to
+   *
+   * @param turn an encoded Move
+   * @return -1 or the size of the board if off that side
+   */
+  public static int getToX(int turn) {
+    return ((turn >>> TO_X_SHIFT) & COORD_MASK) - 1;
+  }
+
+  /**
+   * Returns the y-coordinate the tile is moved to
+   *
+   * @param turn an encoded Move
+   * @return -1 or the size of the board if off that side
+   */
+  public static int getToY(int turn) {
+    return ((turn >>> TO_Y_SHIFT) & COORD_MASK) - 1;
+  }
+
+  /**
+   * Returns the kind of tile the given Flip is supposed to reveal
+   *
+   * @param turn an encoded Flip
+   * @return <code>null</code> for whatever tile is there
+   */
+  public static TileKind getTileKind(int turn) {
+    int kindCode = (turn >>> TO_X_SHIFT) & COORD_MASK;
+    return (kindCode == 0) ? null : KINDS[kindCode - 1];
+  }
+
+  /**
+   * Returns the points scored by the given turn, as worked out when it was
+   * generated
+   *
+   * @param turn an encoded turn
+   * @return zero or more
+   */
+  public static int getScore(int turn) {
+    return (turn >>> SCORE_SHIFT) & SCORE_MASK;
+  }
+
+  /**
+   * Describes the given turn, for debugging
+   *
+   * @param turn an encoded turn
+   * @return a non-<code>null</code> String
+   */
+  public static String toString(int turn) {
+    if (turn == NONE)
+      return "None";
+    return toTurn(turn, null).toString();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.turn;
+
+/**
+ * A growable list of turns encoded as per {@link PackedTurn}. A search can
+ * keep one for each depth and clear it for reuse, rather than creating a new
+ * collection of Turn objects at every position.
+ */
+public final class TurnList {
+
+  // Constants
+  private static final int DEFAULT_CAPACITY = 64;
+
+  // Properties
+  private int[] turns;
+  private int size;
+
+  /**
+   * Constructor for an empty list
+   */
+  public TurnList() {
+    turns = new int[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Adds the given turn to the end of this list
+   *
+   * @param turn an encoded turn
+   */
+  public void add(int turn) {
+    if (size == turns.length) {
+      int[] newTurns = new int[size * 2];
+      System.arraycopy(turns, 0, newTurns, 0, size);
+      turns = newTurns;
+    }
+    turns[size++] = turn;
+  }
+
+  /**
+   * Returns the turn at the given position
+   *
+   * @param index from zero to one less than the size
+   * @return an encoded turn
+   * @throws IndexOutOfBoundsException if there's no such turn
+   */
+  public int get(int index) {
+    if (index >= size)
+      throw new IndexOutOfBoundsException("No turn " + index + " of " + size);
+    return turns[index];
+  }
+
+  /**
+   * Returns the number of turns in this list
+   *
+   * @return zero or more
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Reports whether this list is empty
+   *
+   * @return see above
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes all the turns, keeping the space they took up
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Sorts the turns from highest to lowest scoring, turns with equal scores
+   * staying in the same order. Most turns score nothing, so only the few
+   * that do have far to go.
+   */
+  public void sortByScore() {
+    for (int i = 1; i < size; i++) {
+      int turn = turns[i];
+      int score = PackedTurn.getScore(turn);
+      int j = i;
+      while (j > 0 && PackedTurn.getScore(turns[j - 1]) < score) {
+        turns[j] = turns[j - 1];
+        j--;
+      }
+      turns[j] = turn;
+    }
+  }
+}
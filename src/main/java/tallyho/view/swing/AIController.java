@@ -6,16 +6,32 @@ package tallyho.view.swing;
 import java.awt.Toolkit;
 import java.util.Observable;
 import java.util.Observer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import javax.swing.SwingUtilities;
 
 import tallyho.model.Game;
 import tallyho.model.IllegalMoveException;
 import tallyho.model.player.Player;
+import tallyho.model.player.ai.AIExecutor;
 import tallyho.model.player.ai.ComputerPlayer;
+import tallyho.model.player.ai.LookAheadAI;
 import tallyho.model.turn.Turn;
 
 /**
  * Waits for it to be an AI's turn, then makes that player's turn. Acts as a
  * Controller in the M-V-C architecture. Intended to be run in its own Thread.
+ * <p>
+ * The AI thinks on the thread of an {@link AIExecutor}, not the one telling
+ * this controller that it's the AI's turn, and its turn is then had on the
+ * Swing event thread, like a person's. This keeps the GUI responsive while
+ * the AI thinks, and stops each AI turn in an AI-vs-AI game from being had
+ * from within the notification of the last one. While a person chooses
+ * their turn, a look-ahead AI opponent ponders its reply.
+ * <p>
+ * If the AI fails to choose a legal turn (e.g. it runs out of time), its
+ * Observers are told, and can get the reason from {@link #getFailure()}.
  */
 public class AIController extends Observable implements Observer, Runnable {
     
@@ -29,8 +45,22 @@ public class AIController extends Observable implements Observer, Runnable {
    */
   public static final String THINKING_FINISHED = "FinishedThinking";
   
+  /**
+   * The name of a change that tells Observers the AI failed to have its turn
+   */
+  public static final String THINKING_FAILED = "FailedThinking";
+  
   // Properties
   private final Game game;
+  private final AIExecutor executor;
+  // -- the milliseconds the AI has for each turn; zero for no limit
+  private long timeLimit;
+  // -- why the AI last failed to have its turn, if it has
+  private Throwable failure;
+  // -- the turn being worked out, if any; only used on the event thread
+  private CompletableFuture<Turn> pendingTurn;
+  // -- the AI pondering during a person's turn, if any; likewise
+  private CompletableFuture<Void> pondering;
 
   /**
    * Constructor
@@ -42,15 +72,53 @@ public class AIController extends Observable implements Observer, Runnable {
       throw new IllegalArgumentException("Game can't be null");
     
     this.game = game;
+    this.executor = new AIExecutor();
     game.addObserver(this);
   }
 
+  /**
+   * Sets how long the AI has to choose each turn, after which it fails to
+   * have it
+   * 
+   * @param timeLimit the number of milliseconds, or zero for no limit (the
+   *   default)
+   */
+  public void setTimeLimit(long timeLimit) {
+    // Check input
+    if (timeLimit < 0)
+      throw new IllegalArgumentException("Time limit can't be negative");
+    this.timeLimit = timeLimit;
+  }
+  
+  /**
+   * Returns how long the AI has to choose each turn
+   * 
+   * @return the number of milliseconds, or zero for no limit
+   */
+  public long getTimeLimit() {
+    return timeLimit;
+  }
+  
+  /**
+   * Returns why the AI last failed to have its turn, e.g. for Observers told
+   * of a {@link #THINKING_FAILED} change
+   * 
+   * @return <code>null</code> if it hasn't failed
+   */
+  public Throwable getFailure() {
+    return failure;
+  }
+
   /**
    * @see java.lang.Runnable#run()
    */
   public void run() {
-    // Check if the first turn is an AI turn
-    checkComputerTurn();
+    // Check if the first turn is an AI turn, on the thread that has the others
+    SwingUtilities.invokeLater(new Runnable() {
+      public void run() {
+        checkComputerTurn();
+      }
+    });
     // Now wait for game updates (as an Observer)
   }
 
@@ -68,40 +136,111 @@ public class AIController extends Observable implements Observer, Runnable {
       // The round ended
       checkComputerTurn();  // assume this is the game we are already observing
     }
+    else if (observable instanceof Game && Game.GAME_OVER.equals(propertyName)) {
+      // Nobody else gets a turn
+      cancelPendingTurn();
+      stopPondering();
+      executor.shutdown();
+    }
   }
 
   /**
-   * Checks whether the active player is an AI, and if so, finds out its
-   * desired move and makes it
+   * Checks whether the active player is an AI, and if so, starts it working
+   * out its turn, to be had on the event thread when it's ready
    */
   private void checkComputerTurn() {
+    // Whatever the AI was pondering, it's now had its answer
+    stopPondering();
     Player activePlayer = game.getActivePlayer();
-    if (activePlayer instanceof ComputerPlayer) {
-      ComputerPlayer computerPlayer = (ComputerPlayer) activePlayer;
+    if (!(activePlayer instanceof ComputerPlayer)) {
+      // A person's turn - let their AI opponent, if any, think meanwhile
+      Player opponent = (activePlayer == game.getPlayer(1))
+        ? game.getPlayer(2) : game.getPlayer(1);
+      if (opponent instanceof LookAheadAI
+          && ((LookAheadAI) opponent).isPondering())
+      {
+        pondering = executor.ponder((LookAheadAI) opponent, game.getBoard());
+      }
+    }
+    else {
+      final ComputerPlayer computerPlayer = (ComputerPlayer) activePlayer;
       
       // Notify observers we've started thinking
       setChanged();
       notifyObservers(THINKING_STARTED);
       
-      // This can take some time
-      Turn computerTurn = 
-        computerPlayer.getTurn(game.getBoard());
+      // This can take some time, so happens elsewhere
+      cancelPendingTurn();
+      final CompletableFuture<Turn> computerTurn =
+        executor.getTurn(computerPlayer, game.getBoard(), timeLimit);
+      pendingTurn = computerTurn;
+      computerTurn.whenCompleteAsync((turn, ex) -> {
+        if (computerTurn != pendingTurn)
+          return;   // superseded
+        pendingTurn = null;
+        haveTurn(computerPlayer, turn, ex);
+      }, SwingUtilities::invokeLater);
+    }
+  }
 
-      // Notify observers we've stopped thinking
-      setChanged();
-      notifyObservers(THINKING_FINISHED);
-      
+  /**
+   * Has the given AI's turn, once it's been worked out, or if it couldn't
+   * be, tells the Observers why
+   * 
+   * @param computerPlayer the AI whose turn it is
+   * @param computerTurn the turn it chose, if it didn't fail
+   * @param thinkingFailure why it failed, if it did
+   */
+  private void haveTurn(ComputerPlayer computerPlayer, Turn computerTurn,
+      Throwable thinkingFailure)
+  {
+    // Notify observers we've stopped thinking
+    setChanged();
+    notifyObservers(THINKING_FINISHED);
+
+    if (thinkingFailure instanceof CompletionException
+        && thinkingFailure.getCause() != null)
+    {
+      thinkingFailure = thinkingFailure.getCause();
+    }
+    if (thinkingFailure == null) {
       try {
         if (computerTurn != null) {
           // Not passing (the game knows if we have to pass, and does so)
-          game.getBoard().haveTurn(activePlayer, computerTurn);
+          game.getBoard().haveTurn(computerPlayer, computerTurn);
           Toolkit.getDefaultToolkit().beep();
         }
+        return;
       }
       catch (IllegalMoveException ex) {
         // AI submitted an invalid move
-        throw new RuntimeException("Illegal AI turn: " + computerTurn);
+        thinkingFailure = new IllegalStateException(
+            "Illegal AI turn: " + computerTurn, ex);
       }
     }
+    // Tell the observers, rather than throwing on the event thread
+    failure = thinkingFailure;
+    setChanged();
+    notifyObservers(THINKING_FAILED);
+  }
+
+  /**
+   * Stops the AI pondering, if it is
+   */
+  private void stopPondering() {
+    if (pondering != null) {
+      pondering.cancel(false);
+      pondering = null;
+    }
+  }
+
+  /**
+   * Cancels the turn being worked out, if any
+   */
+  private void cancelPendingTurn() {
+    if (pendingTurn != null) {
+      pendingTurn.cancel(true);
+      pendingTurn = null;
+    }
   }
 }
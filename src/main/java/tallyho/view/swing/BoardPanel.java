@@ -11,13 +11,13 @@ import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.geom.Point2D;
-import java.util.Observable;
-import java.util.Observer;
 
 import javax.swing.BorderFactory;
 import javax.swing.JPanel;
 
 import tallyho.model.Board;
+import tallyho.model.BoardEvent;
+import tallyho.model.BoardListener;
 import tallyho.model.Game;
 import tallyho.model.IllegalMoveException;
 import tallyho.model.Team;
@@ -33,7 +33,8 @@ import tallyho.model.turn.Turn;
 /**
  * The Swing view of the TallyHo board
  */
-public class BoardPanel extends JPanel implements ActionListener, Observer
+public class BoardPanel extends JPanel
+  implements ActionListener, BoardListener
 {
   // Constants
   /* package */ static final Color
@@ -72,7 +73,7 @@ public class BoardPanel extends JPanel implements ActionListener, Observer
     this.gameFrame = gameFrame;
     boardSize = game.getBoard().getMaxIndex() + 1;
     tileButtons = new TileButton[boardSize][boardSize];
-    game.getBoard().addObserver(this);
+    game.getBoard().addBoardListener(this);
     
     // Set up GUI components
     initialiseGUI();
@@ -328,14 +329,12 @@ public class BoardPanel extends JPanel implements ActionListener, Observer
   }
 
   /**
-   * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
+   * @see tallyho.model.BoardListener#boardChanged(tallyho.model.BoardEvent)
    */
-  public void update(Observable observable, Object change) {
-    if (observable instanceof Board &&
-        (change instanceof Move || change instanceof Flip))
-    {
+  public void boardChanged(BoardEvent event) {
+    if (event.isMove() || event.isFlip()) {
       // A tile was moved or flipped
-      updateTileButtons((Turn) change);
+      updateTileButtons(event.getTurn());
     }
   }
 
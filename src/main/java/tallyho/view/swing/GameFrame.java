@@ -501,6 +501,17 @@ public class GameFrame extends JFrame
       else if (AIController.THINKING_STARTED.equals(change)) {
         // TODO hide dialog
       }
+      else if (AIController.THINKING_FAILED.equals(change)) {
+        // Tell the human player(s) why the game has stopped
+        Throwable failure = ((AIController) observable).getFailure();
+        messageDialog.setTitle("The Computer Couldn't Have Its Turn");
+        StringBuffer message = new StringBuffer("<html>");
+        message.append((failure.getMessage() == null)
+            ? failure.toString() : failure.getMessage());
+        message.append("<br>The game can't go on.</html>");
+        messageDialog.setMessage(message.toString());
+        messageDialog.setVisible(true);
+      }
     }
   }
 }
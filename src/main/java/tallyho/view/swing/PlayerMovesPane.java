@@ -8,20 +8,22 @@ import java.util.Observer;
 
 import javax.swing.JTextArea;
 
-import tallyho.model.Board;
+import tallyho.model.BoardEvent;
+import tallyho.model.BoardListener;
 import tallyho.model.Game;
 import tallyho.model.Team;
 import tallyho.model.player.Player;
 import tallyho.model.turn.Flip;
 import tallyho.model.turn.Move;
-import tallyho.model.turn.Pass;
 import tallyho.model.turn.Rescue;
 import tallyho.model.turn.Turn;
 
 /**
  * A pane showing the moves that a player has made
  */
-public class PlayerMovesPane extends JTextArea implements Observer {
+public class PlayerMovesPane extends JTextArea
+  implements BoardListener, Observer
+{
 
   // Properties
   private final Player player;
@@ -44,7 +46,7 @@ public class PlayerMovesPane extends JTextArea implements Observer {
     
     // Make sure we're notified of relevant changes to the model
     game.addObserver(this);
-    game.getBoard().addObserver(this);
+    game.getBoard().addBoardListener(this);
     ((Observable) player).addObserver(this);
 
     initialiseGUI();
@@ -59,23 +61,27 @@ public class PlayerMovesPane extends JTextArea implements Observer {
     setText("");
   }
   
+  /**
+   * @see tallyho.model.BoardListener#boardChanged(tallyho.model.BoardEvent)
+   */
+  public void boardChanged(BoardEvent event) {
+    // A turn was had - was it by our player's team?
+    Turn turn = event.getTurn();
+    if (turn.getTeam() == player.getTeam()) {
+      if (event.isPass())
+        addPassText();
+      else if (event.isFlip())
+        addFlipText((Flip) turn);
+      else
+        addMovementText((Move) turn); // includes Rescues
+    }
+  }
+
   /**
    * @see java.util.Observer#update(java.util.Observable, java.lang.Object)
    */
   public void update(Observable observable, Object change) {
-    if (observable instanceof Board && change instanceof Turn) {
-      // A turn was had - was it by our player's team?
-      Turn turn = (Turn) change;
-      if (turn.getTeam() == player.getTeam()) {
-        if (turn instanceof Pass)
-          addPassText();
-        else if (turn instanceof Flip)
-          addFlipText((Flip) turn);
-        else
-          addMovementText((Move) turn); // includes Rescues
-      }
-    }
-    else if (observable instanceof Game && Game.NEW_ROUND.equals(change)) {
+    if (observable instanceof Game && Game.NEW_ROUND.equals(change)) {
       // A new round started
       setText("");
       moveCount = 0;
@@ -0,0 +1,57 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import junit.framework.TestCase;
+import tallyho.model.player.ai.OpeningBook;
+import tallyho.model.player.ai.ShortSightedAI;
+
+/**
+ * Tests building an opening book by self-play
+ */
+public class OpeningBookBuilderTest extends TestCase {
+
+  /**
+   * Tests that every round counts, that squares that look the same get the
+   * same value, and that the empty centre square has none
+   */
+  public void testBuild() {
+    OpeningBookBuilder builder = new OpeningBookBuilder(ShortSightedAI.class);
+    builder.setGames(20);
+    builder.setSeed(4);
+    OpeningBook book = builder.build();
+    int size = 7;
+    int maxIndex = size - 1;
+    assertTrue(book.hasSize(size));
+    assertEquals(40, book.getRounds(size));
+    assertEquals(OpeningBook.NO_VALUE, book.getValue(size, 3, 3));
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        int value = book.getValue(size, x, y);
+        assertEquals(value, book.getValue(size, maxIndex - x, y));
+        assertEquals(value, book.getValue(size, x, maxIndex - y));
+        assertEquals(value, book.getValue(size, y, x));
+      }
+    }
+  }
+
+  /**
+   * Tests that a book built again from the same seed is the same
+   */
+  public void testRepeatable() {
+    OpeningBook[] books = new OpeningBook[2];
+    for (int i = 0; i < books.length; i++) {
+      OpeningBookBuilder builder =
+        new OpeningBookBuilder(ShortSightedAI.class);
+      builder.setGames(10);
+      builder.setSeed(5);
+      books[i] = builder.build();
+    }
+    for (int y = 0; y < 7; y++) {
+      for (int x = 0; x < 7; x++) {
+        assertEquals(books[0].getValue(7, x, y), books[1].getValue(7, x, y));
+      }
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.RealPlayer;
+
+/**
+ * Tests counting sequences of turns
+ */
+public class PerftTest extends TestCase {
+
+  // Fixture
+  private Board board;
+
+  /**
+   * @see junit.framework.TestCase#setUp()
+   */
+  protected void setUp() throws Exception {
+    board = new Game(new RealPlayer(), new RealPlayer(), new Random(1))
+      .getBoard();
+  }
+
+  /**
+   * Tests that the sequences of one turn are the possible turns
+   */
+  public void testDepthOne() {
+    long[] counts = new Perft(board, Team.PREDATORS, false).count(1);
+    assertEquals(1, counts.length);
+    assertEquals(board.getPossibleTurns(Team.PREDATORS).size(), counts[0]);
+  }
+
+  /**
+   * Tests that counting doesn't change the board, and that treating flips
+   * as chance nodes finds more sequences than looking under the tiles
+   */
+  public void testChanceFlips() {
+    String before = board.toString();
+    long[] revealed = new Perft(board, Team.PREDATORS, false).count(2);
+    long[] chance = new Perft(board, Team.PREDATORS, true).count(2);
+    assertEquals(before, board.toString());
+    assertTrue(chance[0] > revealed[0]);
+    assertTrue(chance[1] > revealed[1]);
+  }
+}
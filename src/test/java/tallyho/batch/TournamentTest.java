@@ -0,0 +1,64 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.batch;
+
+import junit.framework.TestCase;
+import tallyho.model.Game;
+import tallyho.model.player.ai.ShortSightedAI;
+import tallyho.model.player.ai.TrivialAI;
+
+/**
+ * Tests playing games without a user interface
+ */
+public class TournamentTest extends TestCase {
+
+  /**
+   * Tests that a game is played to the end
+   */
+  public void testPlayGame() {
+    Game game =
+      new GameRunner(new ShortSightedAI(), new TrivialAI(), 1).play();
+    assertTrue(game.getBoard().areAllTilesFaceUp());
+    assertTrue(game.getPlayer(1).getScore() + game.getPlayer(2).getScore() > 0);
+  }
+
+  /**
+   * Tests that every game of a tournament is counted once
+   *
+   * @throws Exception
+   */
+  public void testTournament() throws Exception {
+    Tournament tournament =
+      new Tournament(ShortSightedAI.class, TrivialAI.class);
+    tournament.setGames(6);
+    tournament.setSeed(3);
+    tournament.setThreads(2);
+    TournamentResult result = tournament.run();
+    assertEquals(6, result.getGames());
+    assertEquals(6,
+        result.getWins(1) + result.getWins(2) + result.getDraws());
+    assertEquals(3, result.getSeed());
+    assertTrue(result.getGamesPerSecond() > 0);
+  }
+
+  /**
+   * Tests that a tournament played again from the same seed has the same
+   * results, however its games are spread across threads
+   *
+   * @throws Exception
+   */
+  public void testRepeatable() throws Exception {
+    Tournament tournament =
+      new Tournament(ShortSightedAI.class, TrivialAI.class);
+    tournament.setGames(8);
+    tournament.setSeed(5);
+    tournament.setThreads(1);
+    TournamentResult first = tournament.run();
+    tournament.setThreads(4);
+    TournamentResult second = tournament.run();
+    assertEquals(first.getTotalScore(1), second.getTotalScore(1));
+    assertEquals(first.getTotalScore(2), second.getTotalScore(2));
+    assertEquals(first.getWins(1), second.getWins(1));
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import tallyho.batch.Perft;
+import tallyho.model.player.Player;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.tile.AbstractTile;
+import tallyho.model.tile.Tile;
+import tallyho.model.turn.Turn;
+
+/**
+ * Runs the board tests against the bitset implementation, and checks that it
+ * generates exactly the same turns as the default one
+ */
+public class BitBoardTest extends BoardTest {
+
+  // Constants
+  private static final int
+    GAMES = 5,
+    MAX_TURNS = 150;
+
+  /**
+   * Constructor
+   *
+   * @param testMethod can't be <code>null</code>
+   */
+  public BitBoardTest(String testMethod) {
+    super(testMethod);
+  }
+
+  /**
+   * @see tallyho.model.BoardTest#createBoard(tallyho.model.Game, int)
+   */
+  protected BoardImpl createBoard(Game game, int size) {
+    return new BitBoard(game, size);
+  }
+
+  /**
+   * Plays random games on a BitBoard and a BoardImpl with the same layout,
+   * checking that they offer the same turns at every step
+   *
+   * @throws Exception
+   */
+  public void testSameTurnsAsBoardImpl() throws Exception {
+    Player predators = new RealPlayer();
+    predators.setTeam(Team.PREDATORS);
+    Player humans = new RealPlayer();
+    humans.setTeam(Team.HUMANS);
+    Game game = new Game(predators, humans);
+    Random random = new Random(1);
+
+    for (int i = 0; i < GAMES; i++) {
+      BitBoard bitBoard = new BitBoard(game);
+      bitBoard.setUpTiles();
+      BoardImpl boardImpl = copyLayout(game, bitBoard);
+
+      Player mover = predators;
+      for (int turnNo = 0; turnNo < MAX_TURNS; turnNo++) {
+        List<String> expected = describe(boardImpl, mover.getTeam());
+        assertEquals("Turn " + turnNo + " of game " + i + " on\n" + boardImpl,
+            expected, describe(bitBoard, mover.getTeam()));
+        assertEquals(boardImpl.areAllTilesFaceUp(), bitBoard.areAllTilesFaceUp());
+        assertEquals(boardImpl.areBothTeamsRepresented(),
+            bitBoard.areBothTeamsRepresented());
+        assertEquals(boardImpl.isTurnPossible(mover.getTeam()),
+            bitBoard.isTurnPossible(mover.getTeam()));
+
+        if (expected.isEmpty()) {
+          boardImpl.pass(mover.getTeam());
+          bitBoard.pass(mover.getTeam());
+        }
+        else {
+          int choice = random.nextInt(expected.size());
+          boardImpl.haveTurn(mover, getTurn(boardImpl, mover, choice));
+          bitBoard.haveTurn(mover, getTurn(bitBoard, mover, choice));
+        }
+        mover = (mover == predators) ? humans : predators;
+      }
+    }
+  }
+
+  /**
+   * Tests that a BitBoard and a BoardImpl with the same layout have the same
+   * number of sequences of turns, whether or not flips look under the tiles
+   *
+   * @throws Exception
+   */
+  public void testSamePerftAsBoardImpl() throws Exception {
+    Game game = new Game(new RealPlayer(), new RealPlayer(), new Random(2));
+    BitBoard bitBoard = new BitBoard(game);
+    bitBoard.setUpTiles();
+    BoardImpl boardImpl = copyLayout(game, bitBoard);
+    // Get some tiles face-up
+    Random random = new Random(3);
+    Team mover = Team.PREDATORS;
+    for (int turnNo = 0; turnNo < 16; turnNo++) {
+      List<Turn> turns =
+        new ArrayList<Turn>(boardImpl.getPossibleTurns(mover));
+      int choice = random.nextInt(turns.size());
+      boardImpl.apply(turns.get(choice));
+      bitBoard.apply(
+          new ArrayList<Turn>(bitBoard.getPossibleTurns(mover)).get(choice));
+      mover = (mover == Team.PREDATORS) ? Team.HUMANS : Team.PREDATORS;
+    }
+    for (int i = 0; i < 2; i++) {
+      boolean chanceFlips = (i == 1);
+      assertEquals(
+          Arrays.toString(
+              new Perft(boardImpl, mover, chanceFlips).count(3)),
+          Arrays.toString(new Perft(bitBoard, mover, chanceFlips).count(3)));
+    }
+  }
+
+  /**
+   * Returns a BoardImpl with copies of the tiles on the given board
+   *
+   * @param game the game for the new board
+   * @param board the board to copy, all tiles face-down
+   * @return a new board
+   * @throws CloneNotSupportedException
+   */
+  private BoardImpl copyLayout(Game game, Board board)
+    throws CloneNotSupportedException
+  {
+    BoardImpl copy = new BoardImpl(game);
+    for (int y = 0; y <= board.getMaxIndex(); y++) {
+      for (int x = 0; x <= board.getMaxIndex(); x++) {
+        Tile tile = board.getTile(x, y);
+        if (tile != null) {
+          copy.addTile((Tile) ((AbstractTile) tile).clone(), x, y);
+        }
+      }
+    }
+    return copy;
+  }
+
+  /**
+   * Returns the given team's possible turns on the given board, as text
+   *
+   * @param board can't be <code>null</code>
+   * @param team one of Team.HUMANS or Team.PREDATORS
+   * @return a non-<code>null</code> List
+   */
+  private List<String> describe(Board board, Team team) {
+    List<String> turns = new ArrayList<String>();
+    Iterator<Turn> iter = board.getPossibleTurns(team).iterator();
+    while (iter.hasNext()) {
+      Turn turn = iter.next();
+      turns.add(turn + " = " + turn.getScore());
+    }
+    return turns;
+  }
+
+  /**
+   * Returns the given player's turn at the given index on the given board
+   *
+   * @param board can't be <code>null</code>
+   * @param player can't be <code>null</code>
+   * @param index zero-indexed
+   * @return a non-<code>null</code> Turn
+   */
+  private Turn getTurn(Board board, Player player, int index) {
+    List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(player.getTeam()));
+    return turns.get(index);
+  }
+}
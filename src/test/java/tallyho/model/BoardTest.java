@@ -4,7 +4,11 @@
 package tallyho.model;
 
 import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import tallyho.model.player.Player;
@@ -15,8 +19,16 @@ import tallyho.model.tile.Duck;
 import tallyho.model.tile.Fox;
 import tallyho.model.tile.Hunter;
 import tallyho.model.tile.Lumberjack;
+import tallyho.model.tile.Pheasant;
 import tallyho.model.tile.Tile;
+import tallyho.model.tile.TileKind;
 import tallyho.model.tile.Tree;
+import tallyho.model.turn.Flip;
+import tallyho.model.turn.Move;
+import tallyho.model.turn.PackedTurn;
+import tallyho.model.turn.Pass;
+import tallyho.model.turn.Rescue;
+import tallyho.model.turn.Turn;
 
 /**
  * Tests the data model for a Tally Ho game board
@@ -59,7 +71,7 @@ public class BoardTest extends TestCase {
     predatorsPlayer = new RealPlayer();
     humansPlayer = new RealPlayer();
     game = new Game(predatorsPlayer, humansPlayer);
-    board = new BoardImpl(game, BOARD_SIZE);    // starts empty
+    board = createBoard(game, BOARD_SIZE);    // starts empty
     duck = new Duck();
     fox = new Fox();
     // Generate a hunter facing in a known direction
@@ -81,6 +93,18 @@ public class BoardTest extends TestCase {
     game.setPlayer(2, humansPlayer);
   }
 
+  /**
+   * Creates the board under test; overridden to run these tests against other
+   * implementations
+   * 
+   * @param game the game to which the board belongs
+   * @param size the size of the board
+   * @return an empty board
+   */
+  protected BoardImpl createBoard(Game game, int size) {
+    return new BoardImpl(game, size);
+  }
+
   /**
    * Tests that you can't add a <code>null</code> Tile
    */
@@ -862,6 +886,35 @@ public class BoardTest extends TestCase {
     }
   }
   
+  /**
+   * Tests that a long-range tile on the largest board can go all the way to
+   * each edge, and off it only along a centre axis
+   */
+  public void testMovesOnLargestBoard() {
+    board = createBoard(game, Board.MAX_SIZE);
+    int centre = (Board.MAX_SIZE - 1) / 2;
+    board.addTile(duck, 1, 3);
+    board.flipTile(Team.PREDATORS, 1, 3);
+    board.addTile(hunter, centre, 2);
+    board.flipTile(Team.PREDATORS, centre, 2);
+
+    // Hunter: along the row to both edges, along the centre column off both
+    int rescues = 0;
+    Collection<Move> moves = board.getPossibleMoves(Team.HUMANS, centre, 2);
+    for (Move move : moves) {
+      if (move instanceof Rescue) {
+        assertEquals(centre, move.getToX());
+        rescues++;
+      }
+    }
+    assertEquals(2, rescues);
+    assertEquals((Board.MAX_SIZE - 1) * 2 + 2, moves.size());
+
+    // Duck: neutral, so never rescued, even along the centre row
+    moves = board.getPossibleMoves(Team.HUMANS, 1, 3);
+    assertEquals((Board.MAX_SIZE - 1) * 2, moves.size());
+  }
+
   /**
    * Tests that the board is in the correct state
    * after having its tiles set up.
@@ -907,13 +960,15 @@ public class BoardTest extends TestCase {
     board.addTile(bear, bearX, bearY);
     board.flipTile(Team.HUMANS, bearX, bearY);
     
-    // Clone the board
+    // Clone the board, which shouldn't take the original's listeners with it
+    final List<BoardEvent> events = new ArrayList<BoardEvent>();
+    board.addBoardListener(new BoardListener() {
+      public void boardChanged(BoardEvent event) {
+        events.add(event);
+      }
+    });
     BoardImpl clone = (BoardImpl) board.clone();
     
-    // Check the "isClone" flag on both objects
-    assertFalse("Original shouldn't be a clone", board.isClone());
-    assertTrue("Clone should be a clone", clone.isClone());
-    
     // Check the placed bear has also been cloned
     assertNotSame(bear, clone.getTile(bearX, bearY));
     
@@ -921,5 +976,464 @@ public class BoardTest extends TestCase {
     clone.moveTile(predatorsPlayer, bearX, bearY, bearX + 1, bearY);
     assertEquals(Bear.class, clone.getTile(bearX + 1, bearY).getClass());
     assertSame(bear, board.getTile(bearX, bearY));
+    assertTrue("Clone shouldn't have listeners", events.isEmpty());
+  }
+
+  /**
+   * Tests that listeners are told of each flip, move and pass had on the
+   * board, but not of turns applied by a search, nor of turns had on a clone
+   *
+   * @throws CloneNotSupportedException
+   * @throws IllegalMoveException
+   */
+  public void testListeners()
+    throws CloneNotSupportedException, IllegalMoveException
+  {
+    final List<BoardEvent> events = new ArrayList<BoardEvent>();
+    BoardListener listener = new BoardListener() {
+      public void boardChanged(BoardEvent event) {
+        events.add(event);
+      }
+    };
+    board.addBoardListener(listener);
+    board.addTile(bear, 0, 0);
+    board.addTile(duck, maxBoardIndex, maxBoardIndex);
+
+    // A flip
+    board.flipTile(Team.HUMANS, 0, 0);
+    assertEquals(1, events.size());
+    BoardEvent event = events.get(0);
+    assertSame(board, event.getBoard());
+    assertTrue(event.isFlip());
+    assertFalse(event.isMove());
+    assertEquals(Team.HUMANS, event.getTeam());
+    assertEquals(0, ((Flip) event.getTurn()).getX());
+
+    // A move
+    board.moveTile(predatorsPlayer, 0, 0, 1, 0);
+    assertEquals(2, events.size());
+    event = events.get(1);
+    assertTrue(event.isMove());
+    assertEquals(Team.PREDATORS, event.getTeam());
+    assertEquals(1, ((Move) event.getTurn()).getToX());
+
+    // A pass
+    board.pass(Team.HUMANS);
+    assertEquals(3, events.size());
+    assertTrue(events.get(2).isPass());
+
+    // Turns had on a clone, or applied, aren't reported
+    Board clone = (Board) board.clone();
+    clone.flipTile(Team.HUMANS, maxBoardIndex, maxBoardIndex);
+    board.undo(board.apply(new Flip(Team.HUMANS, maxBoardIndex,
+        maxBoardIndex, duck)));
+    assertEquals(3, events.size());
+
+    // Nor are turns after the listener is removed
+    board.removeBoardListener(listener);
+    board.flipTile(Team.HUMANS, maxBoardIndex, maxBoardIndex);
+    assertEquals(3, events.size());
+  }
+
+  /**
+   * Tests that the moves generated for each tile are exactly those that pass
+   * validation, throughout some randomly played rounds
+   * 
+   * @throws IllegalMoveException
+   */
+  public void testPossibleMovesMatchValidation() throws IllegalMoveException {
+    Random random = new Random(2);
+    for (int round = 0; round < 2; round++) {
+      board.setUpTiles();
+      Player mover = predatorsPlayer;
+      for (int turnNo = 0; turnNo < 120; turnNo++) {
+        for (int y = 0; y <= maxBoardIndex; y++) {
+          for (int x = 0; x <= maxBoardIndex; x++) {
+            assertEquals("Moves from " + x + "," + y + " on\n" + board,
+                getValidMoves(mover.getTeam(), x, y),
+                board.getPossibleMoves(mover.getTeam(), x, y));
+          }
+        }
+        List<Turn> turns = new ArrayList<Turn>(
+            board.getPossibleTurns(mover.getTeam()));
+        if (turns.isEmpty()) {
+          board.pass(mover.getTeam());
+        }
+        else {
+          board.haveTurn(mover, turns.get(random.nextInt(turns.size())));
+        }
+        mover = (mover == predatorsPlayer) ? humansPlayer : predatorsPlayer;
+      }
+    }
+  }
+
+  /**
+   * Tests that the quick checks for whether a tile or team can move agree with
+   * the moves actually generated, throughout some randomly played rounds that
+   * go on into the end-game
+   * 
+   * @throws IllegalMoveException
+   */
+  public void testMovementPossibleMatchesMoves() throws IllegalMoveException {
+    Random random = new Random(4);
+    for (int round = 0; round < 3; round++) {
+      board.setUpTiles();
+      Player mover = predatorsPlayer;
+      for (int turnNo = 0; turnNo < 150; turnNo++) {
+        Team team = mover.getTeam();
+        for (int y = 0; y <= maxBoardIndex; y++) {
+          for (int x = 0; x <= maxBoardIndex; x++) {
+            assertEquals("Moves from " + x + "," + y + " on\n" + board,
+                !board.getPossibleMoves(team, x, y).isEmpty(),
+                board.isMovementPossible(team, new Point(x, y)));
+          }
+        }
+        List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(team));
+        assertEquals("Turns on\n" + board,
+            !turns.isEmpty(), board.isTurnPossible(team));
+        if (turns.isEmpty()) {
+          board.pass(team);
+        }
+        else {
+          board.haveTurn(mover, turns.get(random.nextInt(turns.size())));
+        }
+        mover = (mover == predatorsPlayer) ? humansPlayer : predatorsPlayer;
+      }
+    }
+  }
+
+  /**
+   * Tests that applying each possible turn and a reply, then undoing them,
+   * leaves the board exactly as it was
+   * 
+   * @throws IllegalMoveException
+   */
+  public void testApplyAndUndo() throws IllegalMoveException {
+    Random random = new Random(3);
+    board.setUpTiles();
+    Player mover = predatorsPlayer;
+    for (int turnNo = 0; turnNo < 100; turnNo++) {
+      Team team = mover.getTeam();
+      Team opponent = (team == Team.HUMANS) ? Team.PREDATORS : Team.HUMANS;
+      String before = describeState();
+      List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(team));
+      for (Turn turn : turns) {
+        UndoRecord record = board.apply(turn);
+        if (!(turn instanceof Flip))
+          assertEquals(turn.toString(), turn.getScore(), record.getScore());
+        List<Turn> replies =
+          new ArrayList<Turn>(board.getPossibleTurns(opponent));
+        if (!replies.isEmpty()) {
+          Turn reply = replies.get(random.nextInt(replies.size()));
+          board.undo(board.apply(reply));
+        }
+        board.undo(record);
+        assertEquals("Undoing " + turn, before, describeState());
+      }
+      Tile otherTile = getFaceDownTile(turns);
+      for (Turn turn : turns) {
+        if (turn instanceof Flip && otherTile != null) {
+          // Suppose another face-down tile is there
+          Flip flip = (Flip) turn;
+          UndoRecord record = board.apply(
+              new Flip(team, flip.getX(), flip.getY(), otherTile));
+          assertSame(otherTile, board.getTile(flip.getX(), flip.getY()));
+          assertTrue(otherTile.isFaceUp());
+          board.undo(record);
+          assertEquals("Undoing supposed " + turn, before, describeState());
+        }
+      }
+      board.undo(board.apply(new Pass(team)));
+      assertEquals("Undoing a pass", before, describeState());
+
+      if (turns.isEmpty()) {
+        board.pass(team);
+      }
+      else {
+        board.haveTurn(mover, turns.get(random.nextInt(turns.size())));
+      }
+      mover = (mover == predatorsPlayer) ? humansPlayer : predatorsPlayer;
+    }
+  }
+
+  /**
+   * Returns the tile of the last Flip out of the given turns
+   * 
+   * @param turns the turns to check
+   * @return <code>null</code> if there are no Flips
+   */
+  private Tile getFaceDownTile(List<Turn> turns) {
+    Tile tile = null;
+    for (Turn turn : turns) {
+      if (turn instanceof Flip)
+        tile = ((Flip) turn).getTile();
+    }
+    return tile;
+  }
+
+  /**
+   * Tests that the hash kept up to date as turns are taken is the same as one
+   * worked out from scratch
+   * 
+   * @throws Exception
+   */
+  public void testHashIsIncremental() throws Exception {
+    Random random = new Random(5);
+    board.setUpTiles();
+    Player mover = predatorsPlayer;
+    for (int turnNo = 0; turnNo < 150; turnNo++) {
+      long sideToMove = (turnNo % 2 == 0) ? 0 : ZobristKeys.SIDE_TO_MOVE;
+      assertEquals("Turn " + turnNo,
+          board.computeHash() ^ sideToMove, board.getHash());
+      assertEquals(board.getHash(), ((Board) board.clone()).getHash());
+      List<Turn> turns =
+        new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+      if (turns.isEmpty()) {
+        board.pass(mover.getTeam());
+      }
+      else {
+        board.haveTurn(mover, turns.get(random.nextInt(turns.size())));
+      }
+      mover = (mover == predatorsPlayer) ? humansPlayer : predatorsPlayer;
+    }
+  }
+
+  /**
+   * Tests that the counts of face-down and team tiles kept up to date as turns
+   * are taken and taken back agree with what's actually on the board
+   * 
+   * @throws Exception
+   */
+  public void testCountsAreIncremental() throws Exception {
+    Random random = new Random(6);
+    for (int round = 0; round < 2; round++) {
+      board.setUpTiles();
+      Player mover = predatorsPlayer;
+      for (int turnNo = 0; turnNo < 150; turnNo++) {
+        assertCounts("Turn " + turnNo);
+        List<Turn> turns =
+          new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+        for (Turn turn : turns) {
+          UndoRecord record = board.apply(turn);
+          assertCounts("After " + turn);
+          board.undo(record);
+        }
+        if (turns.isEmpty()) {
+          board.pass(mover.getTeam());
+        }
+        else {
+          board.haveTurn(mover, turns.get(random.nextInt(turns.size())));
+        }
+        mover = (mover == predatorsPlayer) ? humansPlayer : predatorsPlayer;
+      }
+    }
+  }
+
+  /**
+   * Asserts that the board's end-of-round checks and tallies of tile values
+   * agree with a count of the tiles on it
+   * 
+   * @param message the message for any failure
+   */
+  private void assertCounts(String message) {
+    boolean faceDown = false;
+    boolean humans = false;
+    boolean predators = false;
+    int[][] values = new int[2][Team.values().length];
+    int[] kinds = new int[TileKind.values().length];
+    int hunters = 0;
+    for (int y = 0; y <= maxBoardIndex; y++) {
+      for (int x = 0; x <= maxBoardIndex; x++) {
+        Tile tile = board.getTile(x, y);
+        if (tile != null) {
+          if (!tile.isFaceUp()) {
+            kinds[tile.getKind().ordinal()]++;
+            if (tile instanceof Hunter)
+              hunters++;
+          }
+          faceDown |= !tile.isFaceUp();
+          humans |= Team.HUMANS.equals(tile.getTeam());
+          predators |= Team.PREDATORS.equals(tile.getTeam());
+          values[tile.isFaceUp() ? 1 : 0][tile.getTeam().ordinal()] +=
+            tile.getValue();
+        }
+      }
+    }
+    assertEquals(message, faceDown, board.isAnyTileFaceDown());
+    assertEquals(message, !faceDown, board.areAllTilesFaceUp());
+    assertEquals(message, humans && predators,
+        board.areBothTeamsRepresented());
+    for (Team team : Team.values()) {
+      assertEquals(message, values[0][team.ordinal()],
+          board.getTileValue(team, false));
+      assertEquals(message, values[1][team.ordinal()],
+          board.getTileValue(team, true));
+    }
+    for (TileKind kind : TileKind.values()) {
+      assertEquals(message + ": " + kind,
+          (kind.getDirection() == 0) ? kinds[kind.ordinal()] : hunters,
+          board.getFaceDownCount(kind));
+    }
+  }
+
+  /**
+   * Tests that a flip supposed to reveal a Hunter facing a way that no
+   * face-down Hunter faces puts one facing that way in place of a hidden
+   * one, and puts the hidden one back on undo
+   */
+  public void testApplySupposedHunter() {
+    board.addTile(hunter, 0, 0);
+    board.addTile(duck, maxBoardIndex, maxBoardIndex);
+    board.addTile(bear, CENTRE, 0);
+    String before = describeState();
+    long hashBefore = board.getHash();
+    assertEquals(1, board.getFaceDownCount(TileKind.HUNTER_SMALL_Y));
+    int otherDirection = (HUNTER_DIRECTION == Directional.BIG_X)
+      ? Directional.SMALL_Y : Directional.BIG_X;
+
+    // Suppose the duck's square hides a Hunter facing the other way
+    UndoRecord record = board.apply(PackedTurn.flip(Team.HUMANS,
+        maxBoardIndex, maxBoardIndex, TileKind.getHunter(otherDirection)));
+    Tile supposed = board.getTile(maxBoardIndex, maxBoardIndex);
+    assertNotSame(hunter, supposed);
+    assertTrue(supposed.isFaceUp());
+    assertEquals(otherDirection, ((Hunter) supposed).getDirection());
+    assertFalse(board.contains(hunter));
+    assertEquals(0, board.getFaceDownCount(TileKind.HUNTER_BIG_X));
+    board.undo(record);
+    assertEquals(HUNTER_DIRECTION, hunter.getDirection());
+    assertFalse(hunter.isFaceUp());
+    assertEquals(before, describeState());
+    assertEquals(hashBefore, board.getHash());
+
+    // Suppose the Hunter's own square hides one facing the other way
+    record = board.apply(PackedTurn.flip(Team.HUMANS, 0, 0,
+        TileKind.getHunter(otherDirection)));
+    supposed = board.getTile(0, 0);
+    assertNotSame(hunter, supposed);
+    assertEquals(otherDirection, ((Hunter) supposed).getDirection());
+    board.undo(record);
+    assertSame(hunter, board.getTile(0, 0));
+    assertEquals(before, describeState());
+    assertEquals(hashBefore, board.getHash());
+  }
+
+  /**
+   * Tests that reaching the same position in a different order gives the
+   * same hash, and that the hash covers the just-flipped tile and whose turn
+   * it is
+   */
+  public void testHashOfTransposition() {
+    Board otherBoard = createBoard(game, BOARD_SIZE);
+    Tile[] bears = {new Bear(), new Bear()};
+    Tile[] otherBears = {new Bear(), new Bear()};
+    Tile duck = new Duck();
+    Tile otherDuck = new Duck();
+    board.addTile(bears[0], 0, 0);
+    board.addTile(bears[1], 1, 1);
+    board.addTile(duck, 2, 2);
+    otherBoard.addTile(otherDuck, 2, 2);
+    otherBoard.addTile(otherBears[1], 1, 1);
+    otherBoard.addTile(otherBears[0], 0, 0);
+    assertEquals(board.getHash(), otherBoard.getHash());
+
+    // Flip the bears in opposite orders
+    board.flipTile(Team.HUMANS, 0, 0);
+    board.flipTile(Team.PREDATORS, 1, 1);
+    otherBoard.flipTile(Team.HUMANS, 1, 1);
+    assertFalse(board.getHash() == otherBoard.getHash());
+    otherBoard.flipTile(Team.PREDATORS, 0, 0);
+    assertEquals(board.getHash(), otherBoard.getHash());
+
+    // A neutral tile that has just been flipped can't be moved next turn
+    board.flipTile(Team.HUMANS, 2, 2);
+    otherBoard.apply(new Flip(Team.HUMANS, 2, 2, otherDuck));
+    assertEquals(board.getHash(), otherBoard.getHash());
+    long justFlipped = board.getHash();
+    board.apply(new Pass(Team.PREDATORS));
+    assertFalse(justFlipped == (board.getHash() ^ ZobristKeys.SIDE_TO_MOVE));
+  }
+
+  /**
+   * Tests that the hash doesn't depend on which face-down tile is where,
+   * only on what can be seen
+   */
+  public void testHashHidesFaceDownTiles() {
+    Board otherBoard = createBoard(game, BOARD_SIZE);
+    board.addTile(new Bear(), 0, 0);
+    board.addTile(new Duck(), 1, 1);
+    otherBoard.addTile(new Duck(), 0, 0);
+    otherBoard.addTile(new Bear(), 1, 1);
+    assertEquals(board.getHash(), otherBoard.getHash());
+
+    // Once flipped, the tiles can be told apart
+    board.flipTile(Team.HUMANS, 0, 0);
+    otherBoard.flipTile(Team.HUMANS, 0, 0);
+    assertFalse(board.getHash() == otherBoard.getHash());
+  }
+
+  /**
+   * Tests that a clone's just-flipped neutral tile is its own copy
+   * 
+   * @throws CloneNotSupportedException
+   */
+  public void testCloneKeepsJustFlippedTile()
+    throws CloneNotSupportedException
+  {
+    Tile pheasant = new Pheasant();
+    board.addTile(pheasant, 0, 0);
+    board.flipTile(Team.HUMANS, 0, 0);
+    Board clone = (Board) board.clone();
+    assertSame(clone.getTile(0, 0), clone.getJustFlippedNeutralTile());
+    assertSame(pheasant, board.getJustFlippedNeutralTile());
+  }
+
+  /**
+   * Describes everything about the board that affects the turns available,
+   * i.e. the tiles, their face-up state, and the rules state
+   * 
+   * @return a non-<code>null</code> String
+   */
+  private String describeState() {
+    StringBuffer buffer = new StringBuffer(board.toString());
+    for (int y = 0; y <= maxBoardIndex; y++) {
+      for (int x = 0; x <= maxBoardIndex; x++) {
+        Tile tile = board.getTile(x, y);
+        buffer.append(tile == null ? '.' : (tile.isFaceUp() ? 'U' : 'D'));
+      }
+    }
+    buffer.append(board.getJustFlippedNeutralTile());
+    buffer.append(board.areAllTilesFaceUp());
+    buffer.append(board.getPossibleTurns(Team.HUMANS));
+    buffer.append(board.getPossibleTurns(Team.PREDATORS));
+    buffer.append(board.getHash());
+    return buffer.toString();
+  }
+
+  /**
+   * Returns the moves from the given square that pass validation, found by
+   * trying every destination on the same rank and file
+   * 
+   * @param team the moving team
+   * @param fromX zero-indexed
+   * @param fromY zero-indexed
+   * @return a non-<code>null</code> Collection
+   */
+  private Collection<Move> getValidMoves(Team team, int fromX, int fromY) {
+    Collection<Move> moves = new ArrayList<Move>();
+    for (int axis = 0; axis < 2; axis++) {
+      for (int to = -1; to <= maxBoardIndex + 1; to++) {
+        int toX = (axis == 0) ? to : fromX;
+        int toY = (axis == 0) ? fromY : to;
+        try {
+          board.validateMove(team, fromX, fromY, toX, toY);
+          moves.add(new Move(team, fromX, fromY, toX, toY, 0));
+        }
+        catch (IllegalMoveException ex) {
+          // Not a valid move
+        }
+      }
+    }
+    return moves;
   }
-}
\ No newline at end of file
+}
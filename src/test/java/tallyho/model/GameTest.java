@@ -3,6 +3,8 @@
  */
 package tallyho.model;
 
+import java.util.Random;
+
 import junit.framework.TestCase;
 import tallyho.model.player.Player;
 import tallyho.model.player.RealPlayer;
@@ -47,4 +49,14 @@ public class GameTest extends TestCase {
     assertEquals("Player 2 should start as the humans",
         Team.HUMANS, player2.getTeam());
   }
+
+  /**
+   * Tests that games with the same seed have their tiles set up the same way
+   */
+  public void testSeededSetUp() {
+    Game first = new Game(player1, player2, new Random(7));
+    Game second = new Game(player1, player2, new Random(7));
+    assertEquals(first.getBoard().toString(), second.getBoard().toString());
+    assertEquals(first.getBoard().getHash(), second.getBoard().getHash());
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the tallyho.model.Rays class
+ */
+public class RaysTest extends TestCase {
+
+  /**
+   * Tests that each ray runs from next to its start to the edge of the board
+   */
+  public void testRaysReachTheEdge() {
+    for (int size = 1; size <= Board.MAX_SIZE; size += 2) {
+      Rays rays = Rays.forSize(size);
+      for (int y = 0; y < size; y++) {
+        for (int x = 0; x < size; x++) {
+          int square = rays.getSquare(x, y);
+          assertEquals(x, rays.getX(square));
+          assertEquals(y, rays.getY(square));
+          for (int direction = 0; direction < Rays.DIRECTIONS; direction++) {
+            int[] ray = rays.getRay(square, direction);
+            int toX = x;
+            int toY = y;
+            for (int i = 0; i < ray.length; i++) {
+              toX += Rays.STEP_X[direction];
+              toY += Rays.STEP_Y[direction];
+              assertEquals(rays.getSquare(toX, toY), ray[i]);
+            }
+            toX += Rays.STEP_X[direction];
+            toY += Rays.STEP_Y[direction];
+            assertTrue(toX < 0 || toX == size || toY < 0 || toY == size);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Tests that only rays along the centre axes lead to an exit
+   */
+  public void testExits() {
+    Rays rays = Rays.forSize(Board.MAX_SIZE);
+    int centre = (Board.MAX_SIZE - 1) / 2;
+    // Along the centre row, both ways along x
+    assertTrue(rays.isExit(rays.getSquare(3, centre), 0));
+    assertTrue(rays.isExit(rays.getSquare(3, centre), 2));
+    assertFalse(rays.isExit(rays.getSquare(3, centre), 1));
+    // Along the centre column, both ways along y
+    assertTrue(rays.isExit(rays.getSquare(centre, 0), 1));
+    assertTrue(rays.isExit(rays.getSquare(centre, 0), 3));
+    assertFalse(rays.isExit(rays.getSquare(centre, 0), 0));
+    // Off the centre axes
+    for (int direction = 0; direction < Rays.DIRECTIONS; direction++) {
+      assertFalse(rays.isExit(rays.getSquare(0, 1), direction));
+    }
+  }
+
+  /**
+   * Tests that boards of the same size share their rays
+   */
+  public void testSharedBySize() {
+    assertSame(Rays.forSize(7), Rays.forSize(7));
+    assertNotSame(Rays.forSize(7), Rays.forSize(9));
+    try {
+      Rays.forSize(Board.MAX_SIZE + 2);
+      fail("Should be no rays for an oversized board");
+    }
+    catch (IllegalArgumentException expected) {
+      // Success
+    }
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.UndoRecord;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.turn.Flip;
+import tallyho.model.turn.Turn;
+import tallyho.model.turn.TurnList;
+
+/**
+ * Unit tests for the tallyho.model.player.ai.AIExecutor class
+ */
+public class AIExecutorTest extends TestCase {
+
+  // Fixture
+  private AIExecutor executor;
+  private Board board;
+
+  /**
+   * @see junit.framework.TestCase#setUp()
+   */
+  protected void setUp() {
+    executor = new AIExecutor();
+    Game game = new Game(new RealPlayer(), new RealPlayer(), new Random(1));
+    board = game.getBoard();
+  }
+
+  /**
+   * @see junit.framework.TestCase#tearDown()
+   */
+  protected void tearDown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Tests that the AI thinks on another thread, about a copy of the board
+   *
+   * @throws Exception
+   */
+  public void testTurnWorkedOutElsewhere() throws Exception {
+    final Thread caller = Thread.currentThread();
+    final Board original = board;
+    TrivialAI ai = new TrivialAI() {
+      public Turn getTurn(Board board) {
+        assertNotSame(caller, Thread.currentThread());
+        assertNotSame(original, board);
+        return super.getTurn(board);
+      }
+    };
+    ai.setTeam(Team.PREDATORS);
+    Turn turn = executor.getTurn(ai, board, 0).get(10, TimeUnit.SECONDS);
+    Flip flip = (Flip) turn;
+    assertEquals(AIHelper.getFirstFlip(board).getX(), flip.getX());
+    assertEquals(AIHelper.getFirstFlip(board).getY(), flip.getY());
+  }
+
+  /**
+   * Tests that an AI that runs out of time is stopped, and the next AI still
+   * gets to think
+   *
+   * @throws Exception
+   */
+  public void testTimeLimit() throws Exception {
+    SlowAI slowAI = new SlowAI();
+    try {
+      executor.getTurn(slowAI, board, 50).get(10, TimeUnit.SECONDS);
+      fail("Should have run out of time");
+    }
+    catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof TimeoutException);
+    }
+    assertTrue(slowAI.interrupted.await(10, TimeUnit.SECONDS));
+    assertNotNull(
+        executor.getTurn(new TrivialAI(), board, 0).get(10, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Tests that a look-ahead AI that runs out of time stops searching, so the
+   * next turn doesn't have to wait for it to finish
+   *
+   * @throws Exception
+   */
+  public void testLookAheadTimeLimit() throws Exception {
+    // Past the opening, so the AI has to search
+    Flip firstFlip = AIHelper.getFirstFlip(board);
+    board.flipTile(Team.PREDATORS, firstFlip.getX(), firstFlip.getY());
+    LookAheadAI ai = new LookAheadAI(20);
+    ai.setTeam(Team.HUMANS);
+    try {
+      executor.getTurn(ai, board, 50).get(10, TimeUnit.SECONDS);
+      fail("Should have run out of time");
+    }
+    catch (ExecutionException expected) {
+      assertTrue(expected.getCause() instanceof TimeoutException);
+    }
+    assertNotNull(
+        executor.getTurn(new TrivialAI(), board, 0).get(2, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Tests that a cancelled turn stops the AI thinking
+   *
+   * @throws Exception
+   */
+  public void testCancel() throws Exception {
+    SlowAI slowAI = new SlowAI();
+    Future<Turn> turn = executor.getTurn(slowAI, board, 0);
+    assertTrue(slowAI.started.await(10, TimeUnit.SECONDS));
+    assertTrue(turn.cancel(true));
+    try {
+      turn.get();
+      fail("Should have been cancelled");
+    }
+    catch (CancellationException expected) {
+      // Success
+    }
+    assertTrue(slowAI.interrupted.await(10, TimeUnit.SECONDS));
+  }
+
+  /**
+   * Tests that an AI can ponder its reply to each of its opponent's turns
+   * without changing the board or using up the game's random numbers
+   *
+   * @throws Exception
+   */
+  public void testPonder() throws Exception {
+    LookAheadAI ai = new LookAheadAI(1);
+    ai.setTeam(Team.PREDATORS);
+    String before = board.toString();
+    long hash = board.getHash();
+    Game otherGame =
+      new Game(new RealPlayer(), new RealPlayer(), new Random(1));
+    ai.ponder(board, new AtomicBoolean());
+    assertEquals(before, board.toString());
+    assertEquals(hash, board.getHash());
+    assertEquals(otherGame.getBoard().getRandom().nextInt(),
+        board.getRandom().nextInt());
+  }
+
+  /**
+   * Tests that what an AI finds pondering each of its opponent's turns is
+   * kept as part of one search, with the turn it then has, so that the
+   * positions after the first turns pondered are kept as long as the rest
+   */
+  public void testPonderedTurnsKept() {
+    LookAheadAI ai = new LookAheadAI(2, 0);
+    ai.setTeam(Team.PREDATORS);
+    ai.ponder(board, new AtomicBoolean());
+    TurnList replies = new TurnList();
+    board.addPossibleTurns(Team.HUMANS, replies);
+    replies.sortByScore();
+    assertPondered(ai, replies.get(0));
+
+    // The turn after the opponent's doesn't age what was pondered either
+    UndoRecord record = board.apply(replies.get(0));
+    assertNotNull(ai.getTurn(board));
+    board.undo(record);
+    assertPondered(ai, replies.get(0));
+    assertPondered(ai, replies.get(replies.size() - 1));
+  }
+
+  /**
+   * Asserts that the given AI's table holds positions it reached pondering
+   * the given turn by its opponent, all from the table's current search
+   *
+   * @param ai the AI that pondered
+   * @param reply the opponent's turn, encoded as per PackedTurn
+   */
+  private void assertPondered(LookAheadAI ai, int reply) {
+    TranspositionTable table = ai.getTable();
+    UndoRecord record = board.apply(reply);
+    TurnList turns = new TurnList();
+    board.addPossibleTurns(ai.getTeam(), turns);
+    int found = 0;
+    for (int i = 0; i < turns.size(); i++) {
+      UndoRecord turnRecord = board.apply(turns.get(i));
+      long entry = table.probe(MinMaxTreeImpl.getKey(board, Team.HUMANS));
+      if (entry != 0) {
+        assertTrue(table.isCurrent(entry));
+        found++;
+      }
+      board.undo(turnRecord);
+    }
+    board.undo(record);
+    assertTrue("Nothing found after turn " + reply, found > 0);
+  }
+
+  /**
+   * Tests that cancelling an AI's pondering stops it, so that the next turn
+   * can be worked out
+   *
+   * @throws Exception
+   */
+  public void testCancelPondering() throws Exception {
+    LookAheadAI ai = new LookAheadAI(20);
+    ai.setTeam(Team.PREDATORS);
+    Future<Void> pondering = executor.ponder(ai, board);
+    Thread.sleep(50);
+    pondering.cancel(false);
+    assertNotNull(
+        executor.getTurn(new TrivialAI(), board, 0).get(10, TimeUnit.SECONDS));
+  }
+
+  /**
+   * An AI that thinks until it's interrupted
+   */
+  private static class SlowAI extends TrivialAI {
+
+    // Properties
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+
+    /* (non-Javadoc)
+     * @see tallyho.model.player.ai.TrivialAI#getTurn(tallyho.model.Board)
+     */
+    public Turn getTurn(Board board) {
+      started.countDown();
+      try {
+        Thread.sleep(60000);
+      }
+      catch (InterruptedException ex) {
+        interrupted.countDown();
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.BoardImpl;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.Player;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.tile.Directional;
+import tallyho.model.tile.Fox;
+import tallyho.model.tile.Hunter;
+import tallyho.model.turn.Turn;
+
+/**
+ * Unit tests for the tallyho.model.player.ai.FeatureEvaluator class
+ */
+public class FeatureEvaluatorTest extends TestCase {
+
+  // Fixture
+  private Player predators;
+  private Player humans;
+  private FeatureEvaluator evaluator;
+
+  /**
+   * @see junit.framework.TestCase#setUp()
+   */
+  protected void setUp() throws Exception {
+    predators = new RealPlayer();
+    predators.setTeam(Team.PREDATORS);
+    humans = new RealPlayer();
+    humans.setTeam(Team.HUMANS);
+    evaluator = new FeatureEvaluator();
+  }
+
+  /**
+   * Tests that a position is worth as much to one team as it costs the
+   * other, throughout a game
+   */
+  public void testSameValueToEachTeam() {
+    Random random = new Random(3);
+    Board board = new Game(predators, humans).getBoard();
+    Team mover = Team.PREDATORS;
+    for (int turnNo = 0; turnNo < 200; turnNo++) {
+      assertEquals("Turn " + turnNo + " on\n" + board,
+          evaluator.evaluate(board, Team.HUMANS),
+          -evaluator.evaluate(board, Team.PREDATORS));
+      List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(mover));
+      if (turns.isEmpty())
+        break;
+      board.apply(turns.get(random.nextInt(turns.size())));
+      mover = Team.HUMANS.equals(mover) ? Team.PREDATORS : Team.HUMANS;
+    }
+  }
+
+  /**
+   * Tests that a Hunter facing a Fox is worth its line of fire and the threat
+   * to the Fox, and that features with no weight are ignored
+   */
+  public void testHunterFacingFox() {
+    Board board = new BoardImpl(new Game(predators, humans));
+    Hunter hunter;
+    do {
+      hunter = new Hunter();
+    } while (hunter.getDirection() != Directional.BIG_X);
+    board.addTile(hunter, 0, 0);
+    board.flipTile(Team.PREDATORS, 0, 0);
+    // N.B. off the centre column, so the Fox can't escape
+    board.addTile(new Fox(), 4, 0);
+    board.flipTile(Team.HUMANS, 4, 0);
+
+    evaluator.setMaterialWeight(0);
+    evaluator.setFaceDownWeight(0);
+    evaluator.setThreatWeight(0);
+    evaluator.setExitWeight(0);
+    evaluator.setLineOfFireWeight(100);
+    // Three empty squares, then the Fox
+    assertEquals(4, evaluator.evaluate(board, Team.HUMANS));
+
+    evaluator.setLineOfFireWeight(0);
+    evaluator.setThreatWeight(100);
+    // The Hunter can take the Fox, but the Fox can't take the Hunter
+    assertEquals(new Fox().getValue(), evaluator.evaluate(board, Team.HUMANS));
+
+    evaluator.setThreatWeight(0);
+    assertEquals(0, evaluator.evaluate(board, Team.HUMANS));
+  }
+}
@@ -0,0 +1,528 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.BoardImpl;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.Player;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.tile.Bear;
+import tallyho.model.tile.Duck;
+import tallyho.model.tile.Pheasant;
+import tallyho.model.tile.Tile;
+import tallyho.model.tile.Tree;
+import tallyho.model.turn.Pass;
+import tallyho.model.turn.Turn;
+
+/**
+ * Tests the alpha-beta search against a plain min-max search of the same tree
+ */
+public class MinMaxTreeImplTest extends TestCase {
+
+  // Constants
+  private static final int
+    POSITIONS = 6,
+    DEPTH = 2;
+
+  // Fixture
+  private Player predators;
+  private Player humans;
+  private Board board;
+
+  /**
+   * @see junit.framework.TestCase#setUp()
+   */
+  protected void setUp() throws Exception {
+    predators = new RealPlayer();
+    predators.setTeam(Team.PREDATORS);
+    humans = new RealPlayer();
+    humans.setTeam(Team.HUMANS);
+  }
+
+  /**
+   * Returns the board of a new game, with the tiles set up
+   *
+   * @return a non-<code>null</code> Board
+   */
+  private Board createBoard() {
+    return new Game(predators, humans).getBoard();
+  }
+
+  /**
+   * Returns search settings with the given values
+   *
+   * @param chanceOutcomes see {@link SearchSettings#setChanceOutcomes(int)}
+   * @param table see {@link SearchSettings#setTable(TranspositionTable)}
+   * @param timeLimit see {@link SearchSettings#setTimeLimit(long)}
+   * @return a new SearchSettings
+   */
+  private static SearchSettings createSettings(int chanceOutcomes,
+      TranspositionTable table, long timeLimit)
+  {
+    SearchSettings settings = new SearchSettings();
+    settings.setChanceOutcomes(chanceOutcomes);
+    settings.setTable(table);
+    settings.setTimeLimit(timeLimit);
+    return settings;
+  }
+
+  /**
+   * Plays random games and checks at intervals that pruning doesn't change
+   * the value of the best turn, nor change the board being searched
+   *
+   * @throws Exception
+   */
+  public void testSameValueAsMinMax() throws Exception {
+    Random random = new Random(4);
+    board = createBoard();
+    Player mover = predators;
+    int checked = 0;
+    for (int turnNo = 0; checked < POSITIONS; turnNo++) {
+      List<Turn> turns =
+        new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+      if (turnNo % 8 == 7 && !turns.isEmpty()) {
+        String before = board.toString();
+        MinMaxTreeImpl tree =
+          MinMaxTreeImpl.search(
+            mover.getTeam(), board, DEPTH, createSettings(0, null, 0));
+        assertEquals("Position:\n" + before,
+            getMinMaxValue(board, mover.getTeam(), DEPTH, null),
+            tree.getBestValue());
+        assertEquals(before, board.toString());
+        checked++;
+      }
+      if (turns.isEmpty()) {
+        // Start again
+        board = createBoard();
+        mover = predators;
+      }
+      else {
+        board.apply(turns.get(random.nextInt(turns.size())));
+        mover = (mover == predators) ? humans : predators;
+      }
+    }
+  }
+
+  /**
+   * Tests that pruning doesn't change the value of the best turn when the
+   * positions at the end of the search are evaluated
+   *
+   * @throws Exception
+   */
+  public void testEvaluatorSameValueAsMinMax() throws Exception {
+    Random random = new Random(5);
+    board = createBoard();
+    Player mover = predators;
+    SearchSettings settings = new SearchSettings();
+    settings.setChanceOutcomes(0);
+    settings.setEvaluator(new FeatureEvaluator());
+    for (int turnNo = 0; turnNo < 40; turnNo++) {
+      List<Turn> turns =
+        new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+      if (turns.isEmpty())
+        break;
+      if (turnNo % 8 == 7) {
+        String before = board.toString();
+        MinMaxTreeImpl tree =
+          MinMaxTreeImpl.search(mover.getTeam(), board, 1, settings);
+        assertEquals("Position:\n" + before, getMinMaxValue(board,
+            mover.getTeam(), 1, settings.getEvaluator()), tree.getBestValue());
+        assertEquals(before, board.toString());
+      }
+      board.apply(turns.get(random.nextInt(turns.size())));
+      mover = (mover == predators) ? humans : predators;
+    }
+  }
+
+  /**
+   * Tests that looking positions up in a transposition table finds the same
+   * values while searching fewer of them
+   */
+  public void testTranspositionTable() {
+    Random random = new Random(6);
+    // Lay the tiles out the same way every time, as how much the table saves
+    // depends on the position
+    board = new Game(predators, humans, new Random(9)).getBoard();
+    Player mover = predators;
+    TranspositionTable table = new TranspositionTable(4);
+    long nodesWithout = 0;
+    long nodesWith = 0;
+    for (int turnNo = 0; turnNo < 45; turnNo++) {
+      List<Turn> turns =
+        new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+      if (turns.isEmpty())
+        break;
+      if (turnNo >= 40) {
+        MinMaxTreeImpl plain =
+          MinMaxTreeImpl.search(mover.getTeam(), board, 4,
+              createSettings(1, null, 0));
+        MinMaxTreeImpl cached =
+          MinMaxTreeImpl.search(mover.getTeam(), board, 4,
+              createSettings(1, table, 0));
+        assertEquals("Turn " + turnNo + " on\n" + board,
+            plain.getBestValue(), cached.getBestValue());
+        nodesWithout += plain.getNodeCount();
+        nodesWith += cached.getNodeCount();
+      }
+      board.apply(turns.get(random.nextInt(turns.size())));
+      mover = (mover == predators) ? humans : predators;
+    }
+    assertTrue(nodesWith + " vs " + nodesWithout, nodesWith < nodesWithout);
+  }
+
+  /**
+   * Tests that searching one turn deeper at a time finds the same value as
+   * searching to full depth straight away, given time to finish
+   */
+  public void testIterativeDeepening() {
+    board = createBoard();
+    MinMaxTreeImpl direct = MinMaxTreeImpl.search(Team.PREDATORS, board, 2);
+    MinMaxTreeImpl deepened = MinMaxTreeImpl.search(Team.PREDATORS, board, 2,
+        createSettings(MinMaxTreeImpl.DEFAULT_CHANCE_OUTCOMES,
+            new TranspositionTable(1), 60000));
+    assertEquals(2, deepened.getDepthReached());
+    assertEquals(direct.getBestValue(), deepened.getBestValue());
+  }
+
+  /**
+   * Tests that a search stops looking further ahead once its time is up
+   */
+  public void testTimeLimit() {
+    board = createBoard();
+    long start = System.currentTimeMillis();
+    MinMaxTreeImpl tree = MinMaxTreeImpl.search(Team.PREDATORS, board, 20,
+        createSettings(MinMaxTreeImpl.DEFAULT_CHANCE_OUTCOMES, null, 100));
+    long elapsed = System.currentTimeMillis() - start;
+    assertTrue("Took " + elapsed + "ms", elapsed < 1000);
+    assertTrue(tree.getDepthReached() < 20);
+    assertNotNull(tree.getBestTurn());
+  }
+
+  /**
+   * Tests that a search with no time limit stops when its stop flag is set,
+   * keeping what it found looking less far ahead
+   *
+   * @throws Exception
+   */
+  public void testStopFlag() throws Exception {
+    board = createBoard();
+    final AtomicBoolean stopped = new AtomicBoolean();
+    SearchSettings settings = new SearchSettings();
+    settings.setStopFlag(stopped);
+    Thread stopper = new Thread() {
+      public void run() {
+        try {
+          Thread.sleep(100);
+        }
+        catch (InterruptedException ex) {
+          // Stop now
+        }
+        stopped.set(true);
+      }
+    };
+    stopper.start();
+    long start = System.currentTimeMillis();
+    MinMaxTreeImpl tree =
+      MinMaxTreeImpl.search(Team.PREDATORS, board, 20, settings);
+    long elapsed = System.currentTimeMillis() - start;
+    stopper.join();
+    assertTrue("Took " + elapsed + "ms", elapsed < 1000);
+    assertTrue(tree.getDepthReached() < 20);
+    assertNotNull(tree.getBestTurn());
+  }
+
+  /**
+   * Tests that splitting the next turns across threads finds the same best
+   * turns, with the same value, as searching them one at a time
+   */
+  public void testParallelSameAsSequential() {
+    Random random = new Random(9);
+    board = createBoard();
+    Player mover = predators;
+    ForkJoinPool pool = new ForkJoinPool(4);
+    SearchSettings parallel = new SearchSettings();
+    parallel.setPool(pool);
+    try {
+      for (int turnNo = 0; turnNo < 30; turnNo++) {
+        List<Turn> turns =
+          new ArrayList<Turn>(board.getPossibleTurns(mover.getTeam()));
+        if (turns.isEmpty())
+          break;
+        if (turnNo % 5 == 0) {
+          String before = board.toString();
+          MinMaxTreeImpl sequentialTree =
+            MinMaxTreeImpl.search(mover.getTeam(), board, DEPTH);
+          MinMaxTreeImpl parallelTree =
+            MinMaxTreeImpl.search(mover.getTeam(), board, DEPTH, parallel);
+          assertEquals("Turn " + turnNo + " on\n" + before,
+              sequentialTree.getBestValue(), parallelTree.getBestValue());
+          assertEquals(sequentialTree.getBestTurns().toString(),
+              parallelTree.getBestTurns().toString());
+          assertEquals(before, board.toString());
+        }
+        board.apply(turns.get(random.nextInt(turns.size())));
+        mover = (mover == predators) ? humans : predators;
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Tests that helper threads search alongside the main search, each
+   * counting the positions it searches
+   */
+  public void testHelperThreads() {
+    board = createBoard();
+    ForkJoinPool pool = new ForkJoinPool(3);
+    SearchSettings settings = new SearchSettings();
+    settings.setTable(new TranspositionTable(4));
+    settings.setPool(pool);
+    settings.setThreads(3);
+    try {
+      MinMaxTreeImpl tree =
+        MinMaxTreeImpl.search(Team.PREDATORS, board, 3, settings);
+      assertEquals(3, tree.getDepthReached());
+      assertNotNull(tree.getBestTurn());
+      long[] counts = tree.getNodeCounts();
+      assertEquals(3, counts.length);
+      long total = 0;
+      for (long count : counts) {
+        assertTrue(count > 0);
+        total += count;
+      }
+      assertEquals(total, tree.getNodeCount());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Tests that the helpers can't take up every thread in the pool, as the
+   * main search would then have none
+   */
+  public void testHelperThreadsNeedSpareThread() {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    SearchSettings settings = new SearchSettings();
+    settings.setTable(new TranspositionTable(1));
+    settings.setPool(pool);
+    settings.setThreads(3);
+    try {
+      MinMaxTreeImpl.search(Team.PREDATORS, createBoard(), 1, settings);
+      fail("Shouldn't be able to search with more helpers than the pool has");
+    }
+    catch (IllegalArgumentException expected) {
+      // Success
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Tests that if a helper fails, the main search does too
+   */
+  public void testHelperFailureReported() {
+    SearchSettings settings = new SearchSettings();
+    settings.setTable(new TranspositionTable(1));
+    settings.setThreads(2);
+    // Only the helper runs in a pool
+    settings.setEvaluator(new Evaluator() {
+      public int evaluate(Board position, Team mover) {
+        if (ForkJoinTask.inForkJoinPool())
+          throw new IllegalStateException("Helper failed");
+        return 0;
+      }
+    });
+    try {
+      MinMaxTreeImpl.search(Team.PREDATORS, createBoard(), 2, settings);
+      fail("Should have reported the helper's failure");
+    }
+    catch (IllegalStateException expected) {
+      // Success
+    }
+  }
+
+  /**
+   * Tests that helper threads can't be used without a transposition table,
+   * since that's the only way they help
+   */
+  public void testHelperThreadsNeedTable() {
+    SearchSettings settings = new SearchSettings();
+    settings.setThreads(2);
+    try {
+      MinMaxTreeImpl.search(Team.PREDATORS, createBoard(), 1, settings);
+      fail("Shouldn't be able to search with helpers but no table");
+    }
+    catch (IllegalArgumentException expected) {
+      // Success
+    }
+  }
+
+  /**
+   * Tests that when chance nodes are used, the search doesn't depend on
+   * which face-down tile is where
+   */
+  public void testFlipsDontPeek() {
+    // A bear on an exit square and a tree elsewhere, and vice versa
+    Board bearAtExit = createFaceDownBoard(new Bear(), new Tree());
+    Board treeAtExit = createFaceDownBoard(new Tree(), new Bear());
+    int maxIndex = bearAtExit.getMaxIndex();
+
+    // Looking under the tiles, the bear is only worth flipping at the exit
+    assertEquals(new Bear().getValue(),
+        MinMaxTreeImpl.search(Team.PREDATORS, bearAtExit, 2,
+            createSettings(0, null, 0)).getBestValue());
+    assertEquals(0,
+        MinMaxTreeImpl.search(Team.PREDATORS, treeAtExit, 2,
+            createSettings(0, null, 0)).getBestValue());
+
+    // Not looking, it's an even chance either way
+    int expected = new Bear().getValue() / 2;
+    assertEquals(expected,
+        MinMaxTreeImpl.search(Team.PREDATORS, bearAtExit, 2).getBestValue());
+    assertEquals(expected,
+        MinMaxTreeImpl.search(Team.PREDATORS, treeAtExit, 2).getBestValue());
+    assertSame(Bear.class, bearAtExit.getTile(maxIndex, maxIndex / 2).getClass());
+    assertFalse(bearAtExit.getTile(maxIndex, maxIndex / 2).isFaceUp());
+
+    // Drawing fewer kinds than could be revealed, the same ones are drawn
+    // whichever way round the face-down tiles are
+    SearchSettings settings = new SearchSettings();
+    settings.setEvaluator(createFaceUpEvaluator());
+    settings.setChanceOutcomes(1);
+    int[][] squares = {{maxIndex, maxIndex / 2}, {2, 2}, {4, 4}, {2, 4}, {4, 2}};
+    Integer sampled = null;
+    for (int shift = 0; shift < squares.length; shift++) {
+      Tile[] tiles =
+        {new Bear(), new Tree(), new Tree(), new Duck(), new Pheasant()};
+      Board shuffled = new BoardImpl(new Game(predators, humans));
+      for (int i = 0; i < squares.length; i++) {
+        shuffled.addTile(tiles[(i + shift) % tiles.length],
+            squares[i][0], squares[i][1]);
+      }
+      int value = MinMaxTreeImpl.search(
+          Team.PREDATORS, shuffled, 0, settings).getBestValue();
+      if (sampled == null)
+        sampled = value;
+      assertEquals("Shift " + shift, sampled.intValue(), value);
+    }
+  }
+
+  /**
+   * Tests that a flip is worth the average over every kind of tile it could
+   * reveal, not just the most numerous ones, and that if there are too many
+   * kinds to search them all, the same ones are drawn every time
+   */
+  public void testFlipsConsiderEveryKind() {
+    // A bear on an exit square, among four neutral tiles of three kinds
+    Board faceDownBoard = createFaceDownBoard(new Bear(), new Tree());
+    faceDownBoard.addTile(new Tree(), 4, 4);
+    faceDownBoard.addTile(new Duck(), 2, 4);
+    faceDownBoard.addTile(new Pheasant(), 4, 2);
+
+    // Value each position by the predators' face-up tiles
+    SearchSettings settings = new SearchSettings();
+    settings.setEvaluator(createFaceUpEvaluator());
+
+    // Only one tile in five is a bear, however few bears there are
+    settings.setChanceOutcomes(4);
+    assertEquals(new Bear().getValue() / 5, MinMaxTreeImpl.search(
+        Team.PREDATORS, faceDownBoard, 0, settings).getBestValue());
+
+    // Drawing fewer kinds is repeatable
+    settings.setChanceOutcomes(1);
+    int sampled = MinMaxTreeImpl.search(
+        Team.PREDATORS, faceDownBoard, 0, settings).getBestValue();
+    for (int i = 0; i < 3; i++) {
+      assertEquals(sampled, MinMaxTreeImpl.search(
+          Team.PREDATORS, faceDownBoard, 0, settings).getBestValue());
+    }
+  }
+
+  /**
+   * Returns an evaluator that values each position by the predators'
+   * face-up tiles, so doesn't look under any
+   *
+   * @return a new Evaluator
+   */
+  private static Evaluator createFaceUpEvaluator() {
+    return new Evaluator() {
+      public int evaluate(Board position, Team mover) {
+        int value = position.getTileValue(Team.PREDATORS, true);
+        return Team.PREDATORS.equals(mover) ? value : -value;
+      }
+    };
+  }
+
+  /**
+   * Returns a board with the given face-down tiles, the first on an exit square
+   * and the second two squares in from the opposite corner
+   *
+   * @param exitTile the tile for the exit square
+   * @param otherTile the other tile
+   * @return a new board
+   */
+  private Board createFaceDownBoard(Tile exitTile, Tile otherTile) {
+    Board faceDownBoard = new BoardImpl(new Game(predators, humans));
+    int maxIndex = faceDownBoard.getMaxIndex();
+    faceDownBoard.addTile(exitTile, maxIndex, maxIndex / 2);
+    faceDownBoard.addTile(otherTile, 2, 2);
+    return faceDownBoard;
+  }
+
+  /**
+   * Returns the value of the given position to the given team by searching
+   * every turn to the given depth, without any pruning
+   *
+   * @param searchBoard the position; is left as it was found
+   * @param mover the team about to move
+   * @param depth the number of turns to look ahead beyond the next one; if
+   *   negative, the position is evaluated without searching
+   * @param evaluator evaluates the positions beyond the given depth;
+   *   <code>null</code> if they're worth nothing
+   * @return see above
+   * @throws CloneNotSupportedException
+   */
+  private int getMinMaxValue(Board searchBoard, Team mover, int depth,
+      Evaluator evaluator) throws CloneNotSupportedException
+  {
+    if (depth < 0) {
+      if (evaluator == null)
+        return 0;
+      int pointsLeft = 0;
+      for (Team team : Team.values()) {
+        pointsLeft += searchBoard.getTileValue(team, true)
+          + searchBoard.getTileValue(team, false);
+      }
+      return Math.max(-pointsLeft,
+          Math.min(pointsLeft, evaluator.evaluate(searchBoard, mover)));
+    }
+    Team opponent = Team.HUMANS.equals(mover) ? Team.PREDATORS : Team.HUMANS;
+    List<Turn> turns =
+      new ArrayList<Turn>(searchBoard.getPossibleTurns(mover));
+    if (turns.isEmpty())
+      turns.add(new Pass(mover));
+    int best = Integer.MIN_VALUE;
+    for (Turn turn : turns) {
+      Board copy = (Board) searchBoard.clone();
+      copy.apply(turn);
+      best = Math.max(best, turn.getScore()
+          - getMinMaxValue(copy, opponent, depth - 1, evaluator));
+    }
+    return best;
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Observable;
+import java.util.Observer;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.BoardEvent;
+import tallyho.model.BoardListener;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.turn.Turn;
+
+/**
+ * Unit tests for the tallyho.model.player.ai.OldLookAheadAI class
+ */
+public class OldLookAheadAITest extends TestCase {
+
+  /**
+   * Tests that looking ahead doesn't score any points for anyone, nor notify
+   * the observers of the players nor the listeners to the board, nor change the board
+   */
+  public void testLookingAheadHasNoSideEffects() {
+    OldLookAheadAI ai = new OldLookAheadAI(2);
+    ai.setTeam(Team.PREDATORS);
+    RealPlayer human = new RealPlayer();
+    human.setTeam(Team.HUMANS);
+    Game game = new Game(ai, human, new Random(2));
+    Board board = game.getBoard();
+    final List<Object> notifications = new ArrayList<Object>();
+    Observer observer = new Observer() {
+      public void update(Observable observable, Object argument) {
+        notifications.add(argument);
+      }
+    };
+    ai.addObserver(observer);
+    human.addObserver(observer);
+    board.addBoardListener(new BoardListener() {
+      public void boardChanged(BoardEvent event) {
+        notifications.add(event);
+      }
+    });
+
+    // Play into the middle game, where there are points to be scored
+    Random random = new Random(7);
+    Team mover = Team.PREDATORS;
+    for (int turnNo = 0; turnNo < 16; turnNo++) {
+      List<Turn> turns = new ArrayList<Turn>(board.getPossibleTurns(mover));
+      if (turns.isEmpty())
+        break;
+      board.apply(turns.get(random.nextInt(turns.size())));
+      mover = Team.HUMANS.equals(mover) ? Team.PREDATORS : Team.HUMANS;
+    }
+    if (Team.HUMANS.equals(mover))
+      board.apply(board.getPossibleTurns(mover).iterator().next());
+
+    String before = board.toString();
+    long hash = board.getHash();
+    Turn turn = ai.getTurn(board);
+    assertNotNull(turn);
+    assertEquals(0, ai.getScore());
+    assertEquals(0, human.getScore());
+    assertEquals(notifications.toString(), 0, notifications.size());
+    assertEquals(before, board.toString());
+    assertEquals(hash, board.getHash());
+  }
+}
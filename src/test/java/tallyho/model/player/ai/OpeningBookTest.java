@@ -0,0 +1,113 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.player.ai;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import tallyho.model.Board;
+import tallyho.model.Game;
+import tallyho.model.Team;
+import tallyho.model.player.RealPlayer;
+import tallyho.model.turn.Flip;
+
+/**
+ * Unit tests for the tallyho.model.player.ai.OpeningBook class
+ */
+public class OpeningBookTest extends TestCase {
+
+  // Fixture
+  private Board board;
+  private int size;
+  private OpeningBook book;
+
+  /**
+   * @see junit.framework.TestCase#setUp()
+   */
+  protected void setUp() {
+    Game game = new Game(new RealPlayer(), new RealPlayer(), new Random(1));
+    board = game.getBoard();
+    size = board.getMaxIndex() + 1;
+    int[] values = new int[size * size];
+    for (int square = 0; square < values.length; square++) {
+      values[square] = square % 7 - 3;
+    }
+    values[size + 2] = 250;
+    values[0] = OpeningBook.NO_VALUE;
+    book = new OpeningBook();
+    book.setValues(size, values, 10);
+  }
+
+  /**
+   * Tests that the best square is flipped while every tile is face-down, and
+   * the book has nothing to say after that
+   */
+  public void testGetFlip() {
+    assertTrue(OpeningBook.isOpening(board));
+    Flip flip = book.getFlip(board, Team.HUMANS);
+    assertNotNull(flip);
+    assertEquals(2, flip.getX());
+    assertEquals(1, flip.getY());
+    assertEquals(Team.HUMANS, flip.getTeam());
+    assertSame(board.getTile(2, 1), flip.getTile());
+
+    board.flipTile(Team.HUMANS, 2, 1);
+    assertFalse(OpeningBook.isOpening(board));
+    assertNull(book.getFlip(board, Team.PREDATORS));
+  }
+
+  /**
+   * Tests that a saved book reads back the same
+   *
+   * @throws IOException
+   */
+  public void testWriteAndRead() throws IOException {
+    StringWriter writer = new StringWriter();
+    book.write(writer);
+    OpeningBook readBook = OpeningBook.read(new StringReader(writer.toString()));
+    assertTrue(readBook.hasSize(size));
+    assertFalse(readBook.hasSize(size + 2));
+    assertEquals(10, readBook.getRounds(size));
+    for (int y = 0; y < size; y++) {
+      for (int x = 0; x < size; x++) {
+        assertEquals(book.getValue(size, x, y), readBook.getValue(size, x, y));
+      }
+    }
+    assertEquals(OpeningBook.NO_VALUE, readBook.getValue(size, 0, 0));
+  }
+
+  /**
+   * Tests that a book with a missing value can't be read
+   */
+  public void testReadInvalidBook() {
+    try {
+      OpeningBook.read(new StringReader("3 10\n1 2 3\n4 5 6\n7 8\n"));
+      fail("Shouldn't read a book with a missing value");
+    }
+    catch (IOException expected) {
+      // Success
+    }
+  }
+
+  /**
+   * Tests that the look-ahead AI only opens from a book when given one, e.g.
+   * the default book, which covers the default size of board
+   */
+  public void testLookAheadAIUsesDefaultBook() {
+    OpeningBook defaultBook = OpeningBook.getDefault();
+    assertNotNull(defaultBook);
+    assertTrue(defaultBook.hasSize(size));
+    LookAheadAI ai = new LookAheadAI();
+    ai.setTeam(Team.PREDATORS);
+    assertNull(ai.getOpeningBook());
+    ai.setOpeningBook(defaultBook);
+    Flip expected = defaultBook.getFlip(board, Team.PREDATORS);
+    Flip flip = (Flip) ai.getTurn(board);
+    assertEquals(expected.getX(), flip.getX());
+    assertEquals(expected.getY(), flip.getY());
+  }
+}
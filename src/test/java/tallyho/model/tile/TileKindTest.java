@@ -0,0 +1,100 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.tile;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the tallyho.model.tile.TileKind class
+ */
+public class TileKindTest extends TestCase {
+
+  /**
+   * Tests that every tile of the same kind shares the one kind object
+   */
+  public void testKindsAreShared() {
+    assertSame(TileKind.BEAR, new Bear().getKind());
+    assertSame(new Fox().getKind(), new Fox().getKind());
+    assertSame(TileKind.TREE, new Tree().getKind());
+    Random random = new Random(1);
+    for (int i = 0; i < 20; i++) {
+      Hunter hunter = new Hunter(random);
+      assertSame(TileKind.getHunter(hunter.getDirection()), hunter.getKind());
+    }
+  }
+
+  /**
+   * Tests that the prey masks agree with the classes of prey
+   */
+  public void testPreyMasksMatchPreyClasses() {
+    for (TileKind kind : TileKind.values()) {
+      for (TileKind other : TileKind.values()) {
+        boolean isPrey = false;
+        Class[] prey = kind.getPrey();
+        Tile otherTile = createTile(other);
+        for (int i = 0; i < prey.length; i++) {
+          isPrey |= prey[i].isInstance(otherTile);
+        }
+        assertEquals(kind + " capturing " + other,
+            isPrey, kind.canCapture(other));
+      }
+      assertFalse(kind.canCapture(null));
+    }
+  }
+
+  /**
+   * Tests that Hunters can only capture the way they're facing, and other
+   * tiles can capture any way
+   */
+  public void testCaptureDirection() {
+    assertTrue(TileKind.HUNTER_BIG_X.canCapture(TileKind.FOX, 1, 0));
+    assertFalse(TileKind.HUNTER_BIG_X.canCapture(TileKind.FOX, -1, 0));
+    assertFalse(TileKind.HUNTER_BIG_X.canCapture(TileKind.FOX, 0, 1));
+    assertTrue(TileKind.HUNTER_SMALL_Y.canCapture(TileKind.DUCK, 0, -1));
+    assertFalse(TileKind.HUNTER_SMALL_Y.canCapture(TileKind.DUCK, 0, 1));
+    assertFalse(TileKind.HUNTER_SMALL_Y.canCapture(TileKind.TREE, 0, -1));
+    assertTrue(TileKind.BEAR.canCapture(TileKind.LUMBERJACK, 0, -1));
+    assertTrue(TileKind.BEAR.canCapture(TileKind.HUNTER_BIG_Y, 1, 0));
+  }
+
+  /**
+   * Tests that there's no Hunter kind for an invalid direction
+   */
+  public void testInvalidHunterDirection() {
+    try {
+      TileKind.getHunter(0);
+      fail("Should not be a Hunter facing nowhere");
+    }
+    catch (IllegalArgumentException expected) {
+      // Success
+    }
+  }
+
+  /**
+   * Returns a new tile of the given kind
+   *
+   * @param kind can't be <code>null</code>
+   * @return see above
+   */
+  private static Tile createTile(TileKind kind) {
+    switch (kind) {
+      case BEAR:
+        return new Bear();
+      case FOX:
+        return new Fox();
+      case LUMBERJACK:
+        return new Lumberjack();
+      case PHEASANT:
+        return new Pheasant();
+      case DUCK:
+        return new Duck();
+      case TREE:
+        return new Tree();
+      default:
+        return new Hunter();
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Created on 17/10/2026
+ */
+package tallyho.model.turn;
+
+import junit.framework.TestCase;
+import tallyho.model.Team;
+import tallyho.model.tile.Hunter;
+import tallyho.model.tile.TileKind;
+
+/**
+ * Unit tests for the tallyho.model.turn.PackedTurn and TurnList classes
+ */
+public class PackedTurnTest extends TestCase {
+
+  /**
+   * Tests that each field of a Move survives encoding
+   */
+  public void testMove() {
+    int move = PackedTurn.move(Team.PREDATORS, 18, 0, 3, 0, 10);
+    assertTrue(PackedTurn.isMove(move));
+    assertFalse(PackedTurn.isRescue(move));
+    assertFalse(PackedTurn.isFlip(move));
+    assertEquals(Team.PREDATORS, PackedTurn.getTeam(move));
+    assertEquals(18, PackedTurn.getFromX(move));
+    assertEquals(0, PackedTurn.getFromY(move));
+    assertEquals(3, PackedTurn.getToX(move));
+    assertEquals(0, PackedTurn.getToY(move));
+    assertEquals(10, PackedTurn.getScore(move));
+    assertEquals(new Move(Team.PREDATORS, 18, 0, 3, 0, 10),
+        PackedTurn.toTurn(move, null));
+  }
+
+  /**
+   * Tests that a Rescue off either side of the board survives encoding
+   */
+  public void testRescue() {
+    int rescue = PackedTurn.rescue(Team.HUMANS, 3, 1, 3, -1, 5);
+    assertTrue(PackedTurn.isMove(rescue));
+    assertTrue(PackedTurn.isRescue(rescue));
+    assertEquals(Team.HUMANS, PackedTurn.getTeam(rescue));
+    assertEquals(-1, PackedTurn.getToY(rescue));
+    assertTrue(PackedTurn.toTurn(rescue, null) instanceof Rescue);
+    rescue = PackedTurn.rescue(Team.HUMANS, 18, 9, 19, 9, 5);
+    assertEquals(19, PackedTurn.getToX(rescue));
+  }
+
+  /**
+   * Tests that a Flip keeps the kind of tile it's supposed to reveal, and
+   * that packing a Flip object keeps its tile's kind
+   */
+  public void testFlip() {
+    int flip = PackedTurn.flip(Team.HUMANS, 2, 5, TileKind.TREE);
+    assertTrue(PackedTurn.isFlip(flip));
+    assertFalse(PackedTurn.isMove(flip));
+    assertEquals(2, PackedTurn.getX(flip));
+    assertEquals(5, PackedTurn.getY(flip));
+    assertSame(TileKind.TREE, PackedTurn.getTileKind(flip));
+    assertEquals(0, PackedTurn.getScore(flip));
+    assertNull(PackedTurn.getTileKind(
+        PackedTurn.flip(Team.HUMANS, 2, 5, null)));
+
+    Hunter hunter = new Hunter();
+    Turn turn = PackedTurn.toTurn(PackedTurn.pack(
+        new Flip(Team.PREDATORS, 1, 4, hunter)), hunter);
+    assertSame(hunter, ((Flip) turn).getTile());
+    assertEquals(Team.PREDATORS, turn.getTeam());
+    assertSame(hunter.getKind(), PackedTurn.getTileKind(PackedTurn.pack(turn)));
+  }
+
+  /**
+   * Tests that a pass isn't mistaken for no turn at all
+   */
+  public void testPass() {
+    int pass = PackedTurn.pass(Team.HUMANS);
+    assertTrue(pass != PackedTurn.NONE);
+    assertFalse(PackedTurn.isFlip(pass));
+    assertFalse(PackedTurn.isMove(pass));
+    assertTrue(PackedTurn.toTurn(pass, null) instanceof Pass);
+  }
+
+  /**
+   * Tests that the neutral team can't have a turn
+   */
+  public void testNeutralTeam() {
+    try {
+      PackedTurn.pass(Team.NEUTRAL);
+      fail("Neutral team shouldn't be able to pass");
+    }
+    catch (IllegalArgumentException expected) {
+      // Success
+    }
+  }
+
+  /**
+   * Tests that a list of turns grows as needed and sorts them by score,
+   * keeping the order of those with equal scores
+   */
+  public void testTurnList() {
+    TurnList turns = new TurnList();
+    for (int i = 0; i < 100; i++) {
+      turns.add(PackedTurn.move(Team.HUMANS, i % 7, i / 7, 0, 0, i % 3));
+    }
+    assertEquals(100, turns.size());
+    turns.sortByScore();
+    for (int i = 1; i < turns.size(); i++) {
+      int previous = turns.get(i - 1);
+      int turn = turns.get(i);
+      assertTrue(PackedTurn.getScore(previous) >= PackedTurn.getScore(turn));
+      if (PackedTurn.getScore(previous) == PackedTurn.getScore(turn)) {
+        int previousIndex =
+          PackedTurn.getFromY(previous) * 7 + PackedTurn.getFromX(previous);
+        assertTrue(previousIndex < PackedTurn.getFromY(turn) * 7
+            + PackedTurn.getFromX(turn));
+      }
+    }
+    turns.clear();
+    assertTrue(turns.isEmpty());
+    try {
+      turns.get(0);
+      fail("Cleared list shouldn't have a first turn");
+    }
+    catch (IndexOutOfBoundsException expected) {
+      // Success
+    }
+  }
+}